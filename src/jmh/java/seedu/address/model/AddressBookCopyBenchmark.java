@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Measures copying a 50k-person address book with 25k pairings, as done by the {@code ModelManager} constructor.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookCopyBenchmark {
+
+    private static final int PERSON_COUNT = 50_000;
+
+    private AddressBook source;
+
+    @Setup
+    public void setUp() {
+        source = new AddressBook();
+        int half = PERSON_COUNT / 2;
+        for (int i = 0; i < half; i++) {
+            source.addPerson(new Volunteer.VolunteerBuilder().name("Volunteer " + i).build());
+            source.addPerson(new Student.StudentBuilder().name("Student " + i).build());
+        }
+        var list = source.getPersonList();
+        for (int i = 0; i < half; i++) {
+            Person volunteer = list.get(2 * i);
+            Person student = list.get((2 * (int) ((i * 7919L) % half)) + 1);
+            source.pair(volunteer, student);
+        }
+    }
+
+    @Benchmark
+    public AddressBook copy() {
+        return new AddressBook(source);
+    }
+}
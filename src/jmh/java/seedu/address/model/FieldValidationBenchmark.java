@@ -0,0 +1,135 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the cost of validating each person field across a 100k-record load, as done by
+ * {@code JsonAdaptedPerson#toModelType()}. The {@code legacy*} benchmarks validate with
+ * {@link String#matches(String)}, which recompiles the regex on every call. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FieldValidationBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "José", "Nguyễn", "Siti", "Kumar", "李", "Renée",
+    };
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Álvarez", "Văn An", "d/o Ahmad", "s/o Raj", "小龍"};
+    private static final String[] TAGS = {"friends", "math", "Sec3", "english", "volunteer2024"};
+
+    private final String[] names = new String[RECORD_COUNT];
+    private final String[] phones = new String[RECORD_COUNT];
+    private final String[] emails = new String[RECORD_COUNT];
+    private final String[] addresses = new String[RECORD_COUNT];
+    private final String[] tags = new String[RECORD_COUNT];
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            names[i] = FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i % LAST_NAMES.length] + " " + i;
+            phones[i] = (i % 3 == 0 ? "+65 " : "") + (90000000 + i);
+            emails[i] = "user." + i + "@example" + (i % 7) + ".com";
+            addresses[i] = "Blk " + (i % 900) + ", Clementi Ave " + (i % 6) + ", #0" + (i % 9) + "-" + i;
+            tags[i] = TAGS[i % TAGS.length];
+        }
+    }
+
+    @Benchmark
+    public int name() {
+        int valid = 0;
+        for (String name : names) {
+            valid += Name.isValidName(name) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int phone() {
+        int valid = 0;
+        for (String phone : phones) {
+            valid += Phone.isValidPhone(phone) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int email() {
+        int valid = 0;
+        for (String email : emails) {
+            valid += Email.isValidEmail(email) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int address() {
+        int valid = 0;
+        for (String address : addresses) {
+            valid += Address.isValidAddress(address) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int tag() {
+        int valid = 0;
+        for (String tag : tags) {
+            valid += Tag.isValidTagName(tag) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int legacyName() {
+        return countMatches(names, Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public int legacyPhone() {
+        int valid = 0;
+        for (String phone : phones) {
+            valid += phone.trim().matches(Phone.VALIDATION_REGEX) ? 1 : 0;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int legacyEmail() {
+        return countMatches(emails, Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public int legacyAddress() {
+        return countMatches(addresses, Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public int legacyTag() {
+        return countMatches(tags, Tag.VALIDATION_REGEX);
+    }
+
+    private static int countMatches(String[] values, String regex) {
+        int valid = 0;
+        for (String value : values) {
+            valid += value.matches(regex) ? 1 : 0;
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares a {@code find --fuzzy} over 100k names through {@link FuzzyNameIndex} with testing every person
+ * against {@link NameNearKeywordsPredicate}. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FuzzyNameSearchBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+
+    private static final String[] SYLLABLES = {"an", "be", "chi", "da", "el", "fa", "go", "hu", "in", "jo",
+        "ka", "li", "mo", "na", "or", "pe", "qi", "ra", "si", "ta", "ul", "vi", "wen", "xi", "ya", "zh"};
+
+    @Param({"jonh", "kalimo", "ab"})
+    private String keyword;
+
+    @Param({"1", "2"})
+    private int maxDistance;
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private NameNearKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(2103);
+        List<Person> list = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            list.add(new Student.StudentBuilder()
+                    .name(randomWord(random) + " " + randomWord(random) + " " + randomWord(random))
+                    .phone(String.valueOf(90000000 + i))
+                    .email("user." + i + "@example.com")
+                    .address("Blk " + i)
+                    .build());
+        }
+        persons.setPersons(list);
+        predicate = new NameNearKeywordsPredicate(List.of(keyword), maxDistance);
+        persons.getFuzzyNameIndex().search(List.of(keyword), maxDistance);
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int k = 0; k < 2 + random.nextInt(2); k++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    @Benchmark
+    public int index() {
+        return persons.getFuzzyNameIndex().search(List.of(keyword), maxDistance).size();
+    }
+
+    @Benchmark
+    public int scan() {
+        int matches = 0;
+        for (Person person : persons) {
+            matches += predicate.test(person) ? 1 : 0;
+        }
+        return matches;
+    }
+}
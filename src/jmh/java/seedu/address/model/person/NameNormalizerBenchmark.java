@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the throughput of the single-pass {@link NameNormalizer} with the original regex-based
+ * implementation on a mix of realistic names. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NameNormalizerBenchmark {
+
+    private static final String[] NAMES = {
+        "Alex Yeoh", "Bernice Yu", "Charlotte Oliveiro", "David Li", "Irfan Ibrahim", "Roy Balakrishnan",
+        "Kumar s/o Rajendran", "Siti Nurhaliza d/o Ahmad", "Muthu S / O Rama", "Mary w/o John",
+        "O’Connor", "Jean–Paul Sartre", "Renée Zellweger", "José Álvarez", "François Müller",
+        "Łukasz Żółć", "Nguyễn Văn An", "Đặng Thị Mai", "İsmail Şahin", "Σωκράτης Παππάς",
+        "Владимир Иванов", "김민준", "李 小龍", "山田 太郎", "محمد علي",
+        "  Tan   Ah Kow (Alex) ",
+    };
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(NameNormalizer.normalize(name));
+        }
+    }
+
+    @Benchmark
+    public void legacyRegex(Blackhole blackhole) {
+        for (String name : NAMES) {
+            blackhole.consume(LegacyNameNormalizer.normalize(name));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares a {@code find} over 100k names through {@link NameIndex} with testing every person against
+ * {@link NameContainsKeywordsPredicate}. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NameSearchBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "José", "Nguyễn", "Siti", "Kumar", "李", "Renée",
+    };
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Álvarez", "Văn An", "d/o Ahmad", "s/o Raj", "小龍"};
+
+    @Param({"a", "yeoh", "12345"})
+    private String keyword;
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        List<Person> list = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            list.add(new Student.StudentBuilder()
+                    .name(FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i % LAST_NAMES.length] + " " + i)
+                    .phone(String.valueOf(90000000 + i))
+                    .email("user." + i + "@example.com")
+                    .address("Blk " + i)
+                    .build());
+        }
+        persons.setPersons(list);
+        predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+        persons.getNameIndex().search(List.of(keyword));
+    }
+
+    @Benchmark
+    public int index() {
+        return persons.getNameIndex().search(List.of(keyword)).size();
+    }
+
+    @Benchmark
+    public int scan() {
+        int matches = 0;
+        for (Person person : persons) {
+            matches += predicate.test(person) ? 1 : 0;
+        }
+        return matches;
+    }
+}
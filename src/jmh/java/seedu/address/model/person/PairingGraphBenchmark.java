@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Compares {@link PairingGraph} with the {@code HashMultimap<Integer, Integer>} it replaced, at 100k pairings
+ * between 50k volunteers and 50k students. Run with {@code ./gradlew jmh}; add {@code -prof gc} to the JMH
+ * arguments to also compare the bytes allocated while building each structure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PairingGraphBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int EDGE_COUNT = 100_000;
+
+    private final int[] from = new int[EDGE_COUNT];
+    private final int[] to = new int[EDGE_COUNT];
+
+    private PairingGraph graph;
+    private SetMultimap<Integer, Integer> multimap;
+
+    @Setup
+    public void setUp() {
+        int half = PERSON_COUNT / 2;
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            from[i] = i % half;
+            to[i] = half + (int) ((i * 7919L + i / half) % half);
+        }
+        graph = buildGraph();
+        multimap = buildMultimap();
+    }
+
+    @Benchmark
+    public PairingGraph buildGraph() {
+        PairingGraph g = new PairingGraph();
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            g.add(from[i], to[i]);
+        }
+        return g;
+    }
+
+    @Benchmark
+    public SetMultimap<Integer, Integer> buildMultimap() {
+        SetMultimap<Integer, Integer> m = HashMultimap.create();
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            m.put(from[i], to[i]);
+            m.put(to[i], from[i]);
+        }
+        return m;
+    }
+
+    @Benchmark
+    public int lookupGraph() {
+        int paired = 0;
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            paired += graph.contains(to[i], from[(i + 1) % EDGE_COUNT]) ? 1 : 0;
+        }
+        return paired;
+    }
+
+    @Benchmark
+    public int lookupMultimap() {
+        int paired = 0;
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            paired += multimap.get(to[i]).contains(from[(i + 1) % EDGE_COUNT]) ? 1 : 0;
+        }
+        return paired;
+    }
+
+    @Benchmark
+    public long partnersGraph() {
+        long sum = 0;
+        for (int id = 0; id < PERSON_COUNT; id++) {
+            for (int partner : graph.partnersOf(id)) {
+                sum += partner;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long partnersMultimap() {
+        long sum = 0;
+        for (int id = 0; id < PERSON_COUNT; id++) {
+            for (int partner : multimap.get(id)) {
+                sum += partner;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Measures loading a large address book through {@link JsonUtil#readJsonFile}, which reads the whole file into
+ * a {@code String} first, against the streaming JSON reader and the memory-mapped binary reader.
+ * The 1M-person book is about 200 MB as JSON. Run with {@code ./gradlew jmh}; the gc profiler reports the
+ * bytes allocated per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookLoadBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int personCount;
+
+    private Path jsonFilePath;
+    private Path binaryFilePath;
+
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i += 2) {
+            addressBook.addPerson(new Volunteer.VolunteerBuilder().name("Volunteer " + i)
+                    .phone(String.valueOf(80000000 + i)).address("Block " + i + ", Jurong West Ave 6")
+                    .tags("weekday").build());
+            addressBook.addPerson(new Student.StudentBuilder().name("Student " + i)
+                    .phone(String.valueOf(90000000 + i)).address("Block " + i + ", Clementi Ave 2")
+                    .tags("math", "science").build());
+        }
+
+        Path folder = Files.createTempDirectory("addressBookLoadBenchmark");
+        jsonFilePath = folder.resolve("addressbook.json");
+        binaryFilePath = folder.resolve("addressbook.bin");
+        JsonAddressBookStream.write(addressBook, jsonFilePath);
+        BinaryAddressBookStream.write(addressBook, binaryFilePath);
+    }
+
+    @Benchmark
+    public AddressBook jsonUtil() throws DataLoadingException, IllegalValueException {
+        return JsonUtil.readJsonFile(jsonFilePath, JsonSerializableAddressBook.class).get().toModelType();
+    }
+
+    @Benchmark
+    public AddressBook jsonStream() throws IOException, IllegalValueException {
+        return JsonAddressBookStream.read(jsonFilePath);
+    }
+
+    @Benchmark
+    public AddressBook binaryMapped() throws IOException, IllegalValueException {
+        return BinaryAddressBookStream.read(binaryFilePath);
+    }
+}
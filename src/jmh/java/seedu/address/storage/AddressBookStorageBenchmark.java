@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Measures loading and saving a 100k-person address book with 50k pairings in each data file format.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookStorageBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final String[] TAGS = {"math", "science", "english", "weekday", "weekend"};
+
+    @Param({"JSON", "BINARY"})
+    public String format;
+
+    private AddressBook addressBook;
+    private AddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = new AddressBook();
+        int half = PERSON_COUNT / 2;
+        for (int i = 0; i < half; i++) {
+            addressBook.addPerson(new Volunteer.VolunteerBuilder().name("Volunteer " + i)
+                    .phone(String.valueOf(80000000 + i)).tags(TAGS[i % TAGS.length]).build());
+            addressBook.addPerson(new Student.StudentBuilder().name("Student " + i)
+                    .phone(String.valueOf(90000000 + i)).address("Block " + (i % 500) + ", Clementi Ave 2")
+                    .tags(TAGS[i % TAGS.length], TAGS[(i + 1) % TAGS.length]).build());
+        }
+        var list = addressBook.getPersonList();
+        for (int i = 0; i < half; i++) {
+            Person volunteer = list.get(2 * i);
+            Person student = list.get((2 * (int) ((i * 7919L) % half)) + 1);
+            addressBook.pair(volunteer, student);
+        }
+
+        Path folder = Files.createTempDirectory("addressBookStorageBenchmark");
+        storage = format.equals("BINARY")
+                ? new BinaryAddressBookStorage(folder.resolve("addressbook.bin"))
+                : new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+}
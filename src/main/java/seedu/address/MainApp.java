@@ -1,11 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,12 +25,14 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormats;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +51,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WriteBehindAddressBookStorage addressBookWriter;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,14 +64,29 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        addressBookWriter = new WriteBehindAddressBookStorage(initAddressBookStorage(userPrefs));
+        storage = new StorageManager(addressBookWriter, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        logic = logicManager;
 
         ui = new UiManager(logic);
+        addressBookWriter.setFailureHandler(e -> Platform.runLater(() -> {
+            logicManager.handleSaveFailure();
+            ui.showFeedback(getSaveFailureMessage(e));
+        }));
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book in the background fails with {@code e}.
+     */
+    private static String getSaveFailureMessage(Exception e) {
+        String format = e instanceof AccessDeniedException
+                ? LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT
+                : LogicManager.FILE_OPS_ERROR_FORMAT;
+        return String.format(format, e.getMessage());
     }
 
     /**
@@ -168,6 +190,32 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}, compressing
+     * JSON data files at the level set in the config. A data file in another format is converted to the chosen
+     * format first. If it cannot be read, the app does not start, rather than start with an empty AddressBook
+     * that would replace it on the next save.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs)
+            throws DataLoadingException, IOException {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using " + userPrefs.getAddressBookFormat() + " data file : " + addressBookFilePath);
+
+        int compressionLevel = config.getDataCompressionLevel();
+        if (!JsonAddressBookStorage.isValidCompressionLevel(compressionLevel)) {
+            logger.warning(JsonAddressBookStorage.MESSAGE_INVALID_COMPRESSION_LEVEL + ". Using the default level.");
+            compressionLevel = Deflater.DEFAULT_COMPRESSION;
+        }
+        try {
+            return AddressBookFormats.openStorage(userPrefs.getAddressBookFormat(), addressBookFilePath,
+                    compressionLevel);
+        } catch (DataLoadingException | IOException e) {
+            logger.severe("Data file at " + addressBookFilePath + " could not be converted to "
+                    + userPrefs.getAddressBookFormat() + ": " + StringUtil.getDetails(e));
+            throw e;
+        }
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -177,6 +225,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        addressBookWriter.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
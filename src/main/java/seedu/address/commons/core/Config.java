@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
+import java.util.zip.Deflater;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -17,6 +18,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // Deflate level (0 to 9, or -1 for the default) of data files whose name ends with .gz
+    private int dataCompressionLevel = Deflater.DEFAULT_COMPRESSION;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getDataCompressionLevel() {
+        return dataCompressionLevel;
+    }
+
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +58,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && dataCompressionLevel == otherConfig.dataCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataCompressionLevel);
     }
 
     @Override
@@ -60,6 +72,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("dataCompressionLevel", dataCompressionLevel)
                 .toString();
     }
 
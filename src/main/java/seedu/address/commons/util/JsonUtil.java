@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +45,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // flushing after every value would defeat the buffering when streaming many values to one generator
+    private static ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -111,6 +121,69 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Opens a streaming parser over the given file. The file is decoded through a fixed-size buffer, so
+     * values can be read one at a time with {@link #readValue(JsonParser, Class)} without holding the whole
+     * file in memory.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createParser(Path)}, but reads from {@code in}, which is closed with the parser.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Opens a pretty-printing streaming generator that overwrites the given file, creating it if it doesn't exist.
+     * Output is encoded through a fixed-size buffer, so values can be written one at a time with
+     * {@link #writeValue(JsonGenerator, Object)} without building the whole file in memory.
+     */
+    public static JsonGenerator createGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createGenerator(Files.newOutputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createGenerator(Path)}, but writes to {@code out}, which is closed with the generator.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory()
+                .createGenerator(out, JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Reads the value starting at the current token of {@code parser} as an instance of {@code instanceClass},
+     * leaving the parser at the last token of that value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Writes {@code instance} as the next value of {@code generator}.
+     */
+    public static <T> void writeValue(JsonGenerator generator, T instance) throws IOException {
+        streamingWriter.writeValue(generator, instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
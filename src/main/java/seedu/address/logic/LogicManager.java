@@ -33,6 +33,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // modification count of the address book when it was last saved, or -1 if it has not been saved since
+    // it was loaded or since a save failed
+    private volatile long savedModificationCount = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -50,8 +54,16 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long modificationCount = addressBook.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            logger.fine("Address book unchanged since last save, skipping save");
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(addressBook);
+            savedModificationCount = modificationCount;
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -61,6 +73,14 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Records that a save of the address book failed after {@link #execute(String)} returned, such as a write
+     * made in the background, so that the next command saves it again even if it is unchanged.
+     */
+    public void handleSaveFailure() {
+        savedModificationCount = -1;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -93,6 +93,7 @@ public class EditCommand extends Command {
         assert personBuilder != null;
 
         personBuilder
+                .id(personToEdit.getId())
                 .nameIfNotPresent(personToEdit.getName())
                 .phoneIfNotPresent(personToEdit.getPhone())
                 .emailIfNotPresent(personToEdit.getEmail())
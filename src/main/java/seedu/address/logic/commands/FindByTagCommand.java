@@ -41,7 +41,7 @@ public class FindByTagCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Comparator<Person> comparator = new FindTagComparator(this.predicate.getTags());
+        Comparator<Person> comparator = new FindTagComparator(model.getTagMatchCounter(predicate.getTags()));
         model.filterAndSortPersonList(predicate, comparator);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getProcessedPersonList().size()));
@@ -2,25 +2,35 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.comparators.NameDistanceComparator;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. In fuzzy mode, names with a word close to any of the keywords are
+ * listed instead, closest first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String FUZZY_FLAG = "--fuzzy";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + FUZZY_FLAG + ", finds persons with a name word at most MAX_DISTANCE (default "
+            + NameNearKeywordsPredicate.DEFAULT_MAX_DISTANCE + ") typos away from a keyword, closest first.\n"
+            + "Parameters: [" + FUZZY_FLAG + "[=MAX_DISTANCE]] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " jonh";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
     /**
      * Creates a FindCommand to search for {@code Person}s that fulfil the given
@@ -33,10 +43,27 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Creates a FindCommand to search for {@code Person}s that fulfil the given
+     * {@code NameNearKeywordsPredicate}, listing those with the closest names first.
+     * @param predicate Tests if a given {@code Person} has a name word near any of the argument keywords.
+     * @throws NullPointerException If {@code predicate} is null.
+     */
+    public FindCommand(NameNearKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.filterPersonList(predicate);
+        if (predicate instanceof NameNearKeywordsPredicate) {
+            NameNearKeywordsPredicate nearPredicate = (NameNearKeywordsPredicate) predicate;
+            model.filterAndSortPersonList(predicate, new NameDistanceComparator(
+                    model.getNameDistanceCounter(nearPredicate.getKeywords(), nearPredicate.getMaxDistance())));
+        } else {
+            model.filterPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getProcessedPersonList().size()));
     }
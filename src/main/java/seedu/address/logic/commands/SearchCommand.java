@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.PersonMatchesQueryPredicate;
+import seedu.address.model.query.Query;
+
+/**
+ * Finds and lists all persons in address book who match a boolean query over their name, tags, type,
+ * email domain and whether they are paired.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who match the given query "
+            + "and displays them as a list with index numbers.\n"
+            + "A query combines terms with AND, OR, NOT and parentheses. Terms next to each other must both match.\n"
+            + "Terms: n/NAME_KEYWORD t/TAG type/student type/volunteer domain/EMAIL_DOMAIN paired unpaired\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " t/math AND (type/student OR NOT paired)";
+
+    private final Query query;
+
+    /**
+     * Creates a SearchCommand to search for {@code Person}s that match the given {@code query}.
+     * @throws NullPointerException If {@code query} is null.
+     */
+    public SearchCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.filterAndSortPersonList(new PersonMatchesQueryPredicate(query,
+                person -> !model.getPairedPersons(person).isEmpty()), model.getDefaultComparator());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getProcessedPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return query.equals(otherSearchCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -3,46 +3,29 @@ package seedu.address.logic.commands.comparators;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 
+import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
 
 /**
  * Comparator which sorts a collection of persons based on
  * how many of the tags the user searched for is present in
  * the person's tags.
+ * <p>
+ * Persons with as many matching tags are ranked the same, and are ordered by {@link Model#filterAndSortPersonList}.
  */
 public class FindTagComparator implements Comparator<Person> {
-    private final Set<Tag> tagsSearchedFor;
+    private final ToIntFunction<Person> matchCounter;
 
     /**
-     * Constructs a comparator to sort persons based on how many of their
-     * tags are in the given set {@code tagsSearchedFor}.
+     * Constructs a comparator to sort persons based on how many of the tags searched for
+     * they have, as given by {@code matchCounter}, such as {@link Model#getTagMatchCounter(Set)}.
      */
-    public FindTagComparator(Set<Tag> tagsSearchedFor) {
-        requireNonNull(tagsSearchedFor);
-        this.tagsSearchedFor = Set.copyOf(tagsSearchedFor);
-    }
-
-    /**
-     * Returns set of tags present in both the set of tags searched for
-     * and the provided {@code tagsOfPerson}.
-     *
-     * <p>Method will not modify either the set in this comparator or the set in the
-     * parameter.</p>
-     */
-    private Set<Tag> getMatchingTags(Set<Tag> tagsOfPerson) {
-        requireNonNull(tagsOfPerson);
-        // Solution below inspired by https://stackoverflow.com/a/8882126
-        Set<Tag> matchingTags = new HashSet<>(tagsSearchedFor);
-        matchingTags.retainAll(tagsOfPerson);
-        return matchingTags;
-    }
-
-    private int getNumMatchingTags(Set<Tag> tagsOfPerson) {
-        return getMatchingTags(tagsOfPerson).size();
+    public FindTagComparator(ToIntFunction<Person> matchCounter) {
+        requireNonNull(matchCounter);
+        this.matchCounter = matchCounter;
     }
 
     // Javadoc comment adapted from that of Comparator#compare
@@ -58,7 +41,7 @@ public class FindTagComparator implements Comparator<Person> {
      */
     @Override
     public int compare(Person o1, Person o2) {
-        return Integer.compare(getNumMatchingTags(o2.getTags()), getNumMatchingTags(o1.getTags()));
+        return Integer.compare(matchCounter.applyAsInt(o2), matchCounter.applyAsInt(o1));
         // Note: order of o1 and o2 are intentionally reversed
         // because we want to sort in descending order of no. of matching tags
         // This swap is inspired by https://stackoverflow.com/a/18206740
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands.comparators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Comparator which sorts a collection of persons based on
+ * how close the words of their names are to the keywords the user
+ * searched for.
+ * <p>
+ * Persons at the same distance are ranked the same, and are ordered by {@link Model#filterAndSortPersonList}.
+ */
+public class NameDistanceComparator implements Comparator<Person> {
+    private final ToIntFunction<Person> distanceCounter;
+
+    /**
+     * Constructs a comparator to sort persons based on the distance between the words of their names
+     * and the keywords searched for, as given by {@code distanceCounter}, such as
+     * {@link Model#getNameDistanceCounter(List, int)}.
+     */
+    public NameDistanceComparator(ToIntFunction<Person> distanceCounter) {
+        requireNonNull(distanceCounter);
+        this.distanceCounter = distanceCounter;
+    }
+
+    /**
+     * Compares two persons based on how close their names are to the keywords searched for.
+     * Persons are sorted in ascending order of distance.
+     *
+     * @param o1 the first person to be compared.
+     * @param o2 the second person to be compared.
+     * @return a negative integer, zero, or a positive integer as the first person's name
+     *         is closer, as close, or further than the second's.
+     */
+    @Override
+    public int compare(Person o1, Person o2) {
+        return Integer.compare(distanceCounter.applyAsInt(o1), distanceCounter.applyAsInt(o2));
+    }
+}
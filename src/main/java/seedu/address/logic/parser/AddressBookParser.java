@@ -19,6 +19,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PairCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.UnpairCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.EntryType;
@@ -78,6 +79,9 @@ public class AddressBookParser {
         case FindByTagCommand.COMMAND_WORD:
             return new FindByTagCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
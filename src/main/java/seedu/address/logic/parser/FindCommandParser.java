@@ -1,18 +1,26 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.FindCommand.FUZZY_FLAG;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FuzzyNameIndex;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_DISTANCE = "The distance given to " + FUZZY_FLAG
+            + " should be a positive integer no more than " + FuzzyNameIndex.MAX_DISTANCE + ".";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -27,7 +35,37 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
+        if (isFuzzyFlag(nameKeywords[0])) {
+            int maxDistance = parseMaxDistance(nameKeywords[0]);
+            List<String> keywords = Arrays.asList(nameKeywords).subList(1, nameKeywords.length);
+            if (keywords.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(new NameNearKeywordsPredicate(keywords, maxDistance));
+        }
+
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    private static boolean isFuzzyFlag(String word) {
+        return word.equals(FUZZY_FLAG) || word.startsWith(FUZZY_FLAG + "=");
+    }
+
+    /**
+     * Parses the distance in {@code fuzzyFlag}, which is the default distance if none is given.
+     * @throws ParseException if the distance is not a positive integer up to {@link FuzzyNameIndex#MAX_DISTANCE}
+     */
+    private static int parseMaxDistance(String fuzzyFlag) throws ParseException {
+        if (fuzzyFlag.equals(FUZZY_FLAG)) {
+            return NameNearKeywordsPredicate.DEFAULT_MAX_DISTANCE;
+        }
+        String distance = fuzzyFlag.substring(FUZZY_FLAG.length() + 1);
+        if (!StringUtil.isNonZeroUnsignedInteger(distance)
+                || Integer.parseInt(distance) > FuzzyNameIndex.MAX_DISTANCE) {
+            throw new ParseException(MESSAGE_INVALID_DISTANCE);
+        }
+        return Integer.parseInt(distance);
+    }
+
 }
@@ -0,0 +1,172 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object.
+ * <p>
+ * NOT binds tighter than AND, which binds tighter than OR, and terms next to each other are ANDed together.
+ * Operators are case-insensitive.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    public static final String MESSAGE_EXPECTED_TERM = "Expected a search term at: %1$s";
+    public static final String MESSAGE_UNKNOWN_TERM = "Unknown search term: %1$s";
+    public static final String MESSAGE_MISSING_VALUE = "Expected a value after: %1$s";
+    public static final String MESSAGE_UNMATCHED_PARENTHESIS = "Unmatched parenthesis in search query";
+    public static final String MESSAGE_INVALID_TYPE = "Type should be student or volunteer";
+
+    private static final Prefix PREFIX_TYPE = new Prefix("type/");
+    private static final Prefix PREFIX_DOMAIN = new Prefix("domain/");
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String PAIRED = "paired";
+    private static final String UNPAIRED = "unpaired";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SearchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        Tokens tokens = new Tokens(trimmedArgs.replace(OPEN, " " + OPEN + " ")
+                .replace(CLOSE, " " + CLOSE + " ").trim().split("\\s+"));
+        Query query = parseOr(tokens);
+        if (tokens.hasNext()) {
+            // parseOr only stops early at a closing parenthesis
+            throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
+        }
+        return new SearchCommand(query);
+    }
+
+    private static Query parseOr(Tokens tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>(List.of(parseAnd(tokens)));
+        while (tokens.skip(OR)) {
+            operands.add(parseAnd(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new Query.Or(operands);
+    }
+
+    private static Query parseAnd(Tokens tokens) throws ParseException {
+        List<Query> operands = new ArrayList<>(List.of(parseNot(tokens)));
+        while (tokens.hasNext() && !tokens.isNext(OR) && !tokens.isNext(CLOSE)) {
+            tokens.skip(AND);
+            operands.add(parseNot(tokens));
+        }
+        return operands.size() == 1 ? operands.get(0) : new Query.And(operands);
+    }
+
+    private static Query parseNot(Tokens tokens) throws ParseException {
+        if (tokens.skip(NOT)) {
+            return new Query.Not(parseNot(tokens));
+        }
+        if (tokens.skip(OPEN)) {
+            Query query = parseOr(tokens);
+            if (!tokens.skip(CLOSE)) {
+                throw new ParseException(MESSAGE_UNMATCHED_PARENTHESIS);
+            }
+            return query;
+        }
+        if (!tokens.hasNext() || tokens.isNext(AND) || tokens.isNext(OR) || tokens.isNext(CLOSE)) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_TERM,
+                    tokens.hasNext() ? tokens.peek() : "end of query"));
+        }
+        return parseTerm(tokens.next());
+    }
+
+    private static Query parseTerm(String term) throws ParseException {
+        if (term.equalsIgnoreCase(PAIRED)) {
+            return new Query.PairedTerm();
+        }
+        if (term.equalsIgnoreCase(UNPAIRED)) {
+            return new Query.Not(new Query.PairedTerm());
+        }
+        if (term.startsWith(PREFIX_NAME.getPrefix())) {
+            return new Query.NameTerm(getValue(term, PREFIX_NAME));
+        }
+        if (term.startsWith(PREFIX_TAG.getPrefix())) {
+            return new Query.TagTerm(ParserUtil.parseTag(getValue(term, PREFIX_TAG)));
+        }
+        if (term.startsWith(PREFIX_TYPE.getPrefix())) {
+            String type = getValue(term, PREFIX_TYPE);
+            for (EntryType entryType : EntryType.values()) {
+                if (entryType.name().equalsIgnoreCase(type)) {
+                    return new Query.TypeTerm(entryType);
+                }
+            }
+            throw new ParseException(MESSAGE_INVALID_TYPE);
+        }
+        if (term.startsWith(PREFIX_DOMAIN.getPrefix())) {
+            return new Query.EmailDomainTerm(getValue(term, PREFIX_DOMAIN));
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_TERM, term));
+    }
+
+    private static String getValue(String term, Prefix prefix) throws ParseException {
+        String value = term.substring(prefix.getPrefix().length());
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, prefix));
+        }
+        return value;
+    }
+
+    /**
+     * The tokens of a query, read from first to last.
+     */
+    private static class Tokens {
+        private final String[] tokens;
+        private int next;
+
+        Tokens(String[] tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return next < tokens.length;
+        }
+
+        String peek() {
+            return tokens[next];
+        }
+
+        String next() {
+            return tokens[next++];
+        }
+
+        boolean isNext(String token) {
+            return hasNext() && peek().equalsIgnoreCase(token);
+        }
+
+        /**
+         * Reads the next token if it is {@code token}, ignoring case, and returns true if it was read.
+         */
+        boolean skip(String token) {
+            if (!isNext(token)) {
+                return false;
+            }
+            next++;
+            return true;
+        }
+    }
+}
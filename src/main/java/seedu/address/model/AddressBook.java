@@ -7,7 +7,10 @@ import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FuzzyNameIndex;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -18,6 +21,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    // incremented on every change, so that callers can tell whether the data changed
+    private long modificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -47,6 +53,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -58,16 +65,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         // 1) copy persons
         setPersons(newData.getPersonList());
 
-        // 2) rebuild pairings by index
-        ObservableList<Person> src = newData.getPersonList();
-        ObservableList<Person> dst = this.getPersonList();
-        for (int i = 0; i < src.size(); i++) {
-            for (int j = i + 1; j < src.size(); j++) {
-                if (newData.isPaired(src.get(i), src.get(j))) {
-                    this.pair(dst.get(i), dst.get(j));
-                }
-            }
-        }
+        // 2) copy pairings by index, as the persons are in the same order
+        persons.setPairingIndexes(newData.getPairingIndexes());
+        modificationCount++;
     }
 
     //// person-level operations
@@ -80,22 +80,54 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the index over the names of the persons in the address book.
+     */
+    public NameIndex getNameIndex() {
+        return persons.getNameIndex();
+    }
+
+    /**
+     * Returns the index over the tags of the persons in the address book.
+     */
+    public TagIndex getTagIndex() {
+        return persons.getTagIndex();
+    }
+
+    /**
+     * Returns the index over the words of the names of the persons in the address book, for fuzzy search.
+     */
+    public FuzzyNameIndex getFuzzyNameIndex() {
+        return persons.getFuzzyNameIndex();
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if the address book does not contain it.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
     }
 
     @Override
     public void pair(Person a, Person b) {
         persons.pair(a, b);
+        modificationCount++;
     }
 
     @Override
     public void unpair(Person a, Person b) {
         persons.unpair(a, b);
+        modificationCount++;
     }
 
     @Override
@@ -103,11 +135,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.isPaired(a, b);
     }
 
+    /**
+     * Returns true if {@code p} is paired with at least one person.
+     */
+    public boolean hasPartner(Person p) {
+        return persons.hasPartner(p);
+    }
+
     @Override
     public Set<Person> getPairedPersons(Person p) {
         return persons.getPairedPersons(p);
     }
 
+    @Override
+    public int[] getPairingIndexes() {
+        return persons.getPairingIndexes();
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -117,6 +161,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -125,10 +170,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
     }
 
     //// util methods
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
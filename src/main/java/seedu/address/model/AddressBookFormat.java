@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+/**
+ * Formats that the address book data file can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON. */
+    JSON,
+    /** Compact binary, which loads and saves faster. */
+    BINARY,
+    /** JSON split into segments of persons, so that saving rewrites only the segments that changed. */
+    SEGMENTED,
+    /** Embedded SQL database, so that saving changes only the rows that changed. */
+    SQL
+}
@@ -2,12 +2,15 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -89,6 +92,25 @@ public interface Model {
 
     Set<Person> getPairedPersons(Person p);
 
+    /**
+     * Returns a function that gives the number of {@code tags} that a person in the address book has.
+     * It follows later changes to the address book.
+     */
+    ToIntFunction<Person> getTagMatchCounter(Set<Tag> tags);
+
+    /**
+     * Returns a function that gives the smallest Levenshtein distance between a word of the name of a person in
+     * the address book and a word of {@code keywords}, or {@code maxDistance + 1} if it is more than
+     * {@code maxDistance}. It follows later changes to the address book.
+     */
+    ToIntFunction<Person> getNameDistanceCounter(List<String> keywords, int maxDistance);
+
+    /**
+     * Returns the comparator that orders persons as they are in the address book, which the person list is sorted
+     * by unless a command sorts it otherwise.
+     */
+    Comparator<Person> getDefaultComparator();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -103,6 +125,7 @@ public interface Model {
     /**
      * Updates the person list to be filtered using the given {@code predicate}
      * and sorted using the given {@code comparator}.
+     * Persons that {@code comparator} ranks the same are kept in their order in the address book.
      * @throws NullPointerException if {@code predicate} and/or {@code comparator} is null.
      */
     void filterAndSortPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
@@ -5,8 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,7 +16,12 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsTagPredicate;
+import seedu.address.model.query.PersonMatchesQueryPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -41,7 +48,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        defaultComparator = getDefaultComparator();
+        defaultComparator = createDefaultComparator();
         sortedPersons = new SortedList<>(filteredPersons, defaultComparator);
     }
 
@@ -140,6 +147,18 @@ public class ModelManager implements Model {
         return addressBook.getPairedPersons(p);
     }
 
+    @Override
+    public ToIntFunction<Person> getTagMatchCounter(Set<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.getTagIndex().matchCounter(tags);
+    }
+
+    @Override
+    public ToIntFunction<Person> getNameDistanceCounter(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        return addressBook.getFuzzyNameIndex().distanceCounter(keywords, maxDistance);
+    }
+
     //=========== Person List Accessor =============================================================
 
     /**
@@ -151,28 +170,53 @@ public class ModelManager implements Model {
         return sortedPersons;
     }
 
+    @Override
+    public Comparator<Person> getDefaultComparator() {
+        return defaultComparator;
+    }
+
     //=========== Person List Modifiers =============================================================
 
     @Override
     public void filterPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(withIndexes(predicate));
         sortedPersons.setComparator(defaultComparator);
         assert sortedPersons.stream().allMatch(predicate);
     }
 
     @Override
     public void filterAndSortPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
-        filteredPersons.setPredicate(predicate);
-        sortedPersons.setComparator(comparator);
+        filteredPersons.setPredicate(withIndexes(predicate));
+        // SortedList does not keep ties in a stable order when persons are edited, so they are ordered explicitly
+        sortedPersons.setComparator(comparator.thenComparing(defaultComparator));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that uses the indexes of the address book, if it can.
+     */
+    private Predicate<Person> withIndexes(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return ((NameContainsKeywordsPredicate) predicate).using(addressBook.getNameIndex());
+        }
+        if (predicate instanceof NameNearKeywordsPredicate) {
+            return ((NameNearKeywordsPredicate) predicate).using(addressBook.getFuzzyNameIndex());
+        }
+        if (predicate instanceof PersonContainsTagPredicate) {
+            return ((PersonContainsTagPredicate) predicate).using(addressBook.getTagIndex());
+        }
+        if (predicate instanceof PersonMatchesQueryPredicate) {
+            return ((PersonMatchesQueryPredicate) predicate).using(addressBook.getNameIndex(),
+                    addressBook.getTagIndex(), addressBook::hasPartner);
+        }
+        return predicate;
     }
 
     //=========== Person List Modifiers =============================================================
 
-    private Comparator<Person> getDefaultComparator() {
+    private Comparator<Person> createDefaultComparator() {
         return Comparator.comparingInt(p -> {
-            logger.finer(p.getName() + ": " + addressBook.getPersonList().indexOf(p));
-            int index = addressBook.getPersonList().indexOf(p);
+            int index = addressBook.indexOf(p);
             if (index == -1) { // person has just been added, should be at the back of the list
                 index = Integer.MAX_VALUE;
             }
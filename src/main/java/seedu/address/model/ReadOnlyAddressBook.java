@@ -23,4 +23,15 @@ public interface ReadOnlyAddressBook {
     boolean isPaired(Person a, Person b);
 
     Set<Person> getPairedPersons(Person p);
+
+    /**
+     * Returns all pairings as consecutive pairs of positions in {@link #getPersonList()}, listing each pairing once.
+     */
+    int[] getPairingIndexes();
+
+    /**
+     * Returns a count that changes whenever the persons or pairings are modified.
+     * Comparing it with an earlier value tells whether the address book changed since then.
+     */
+    long getModificationCount();
 }
@@ -31,10 +31,29 @@ public class Address {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid address.
+     * Equivalent to matching against {@link #VALIDATION_REGEX}, without the regex engine.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        // '.' does not match line terminators
+        for (int i = Character.charCount(test.codePointAt(0)); i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Matches the regex class {@code \s}. */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
     }
 
     @Override
@@ -41,6 +41,8 @@ public class Email {
 
     public final String value;
 
+    private final String identityKey;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -50,13 +52,95 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        identityKey = normalizeForIdentity(email);
     }
 
     /**
      * Returns if a given string is a valid email.
+     * Equivalent to matching against {@link #VALIDATION_REGEX}, without the regex engine.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at < 0 || test.indexOf('@', at + 1) >= 0 || !isValidLocalPart(test, at)) {
+            return false;
+        }
+
+        int labelStart = at + 1;
+        int dot;
+        while ((dot = test.indexOf('.', labelStart)) >= 0) {
+            if (!isValidDomainLabel(test, labelStart, dot, false)) {
+                return false;
+            }
+            labelStart = dot + 1;
+        }
+        return isValidDomainLabel(test, labelStart, test.length(), true);
+    }
+
+    /**
+     * Returns true if {@code test[0, end)} is alphanumeric runs separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test[start, end)} is alphanumeric runs separated by single hyphens.
+     * The last label must additionally contain two adjacent alphanumeric characters, since it has to be made up
+     * of at least two such labels.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end, boolean isLast) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAdjacentAlphanumerics = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                hasAdjacentAlphanumerics |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && c == '-') {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && (!isLast || hasAdjacentAlphanumerics);
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Trims and converts the given email to lowercase for consistent comparison.
+     */
+    public static String normalizeForIdentity(String email) {
+        requireNonNull(email);
+        return email.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the canonical form of this email for identity comparison, as produced by
+     * {@link #normalizeForIdentity(String)}.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns the domain of this email, which is the part after the {@code @}.
+     */
+    public String getDomain() {
+        return value.substring(value.indexOf('@') + 1);
     }
 
     @Override
@@ -0,0 +1,260 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * BK-tree over the words of the normalized names of the persons in a {@link UniquePersonList}, used to find the
+ * persons with a name word within a given Levenshtein distance of a keyword without comparing the keyword to
+ * every name.
+ * <p>
+ * Names and keywords are normalized with {@link Name#normalizeForIdentity(String)} and split into words. Each
+ * distinct word is a node of the tree, and the children of a node are keyed on their distance to it, so by the
+ * triangle inequality a search only has to visit the children whose key is within the searched distance of the
+ * keyword's distance to the node.
+ * <p>
+ * Words cannot be taken out of a BK-tree without reinserting the words below them, so a word whose persons have
+ * all been removed stays in the tree, and the tree is rebuilt once most of its words are unused.
+ */
+public class FuzzyNameIndex extends SearchIndex {
+
+    /**
+     * Largest distance that can be searched. Name words are rarely this long, so larger distances would find
+     * every person anyway, and bounding them keeps the distance arithmetic from overflowing.
+     */
+    public static final int MAX_DISTANCE = 10;
+
+    private static final int MIN_WORDS_BEFORE_REBUILD = 1024;
+
+    private Node root;
+    private int treeSize;
+    /** Ids of the persons whose name has each word. Words without persons are left out. */
+    private final Map<String, Set<Long>> personsByWord = new HashMap<>();
+
+    /**
+     * Creates an index over the words of the names of the persons in {@code source}.
+     */
+    FuzzyNameIndex(List<Person> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the smallest distance between a word of any of {@code keywords} and a word of the name of each
+     * person with a name word within {@code maxDistance} of a keyword, keyed on the person's
+     * {@link Person#getId()}.
+     */
+    public Map<Long, Integer> search(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        checkMaxDistance(maxDistance);
+        ensureBuilt();
+
+        Map<Long, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        for (String keyword : foldKeywords(keywords)) {
+            toVisit.push(root);
+            while (!toVisit.isEmpty()) {
+                Node node = toVisit.pop();
+                int distance = distance(keyword, node.word);
+                if (distance <= maxDistance) {
+                    for (Long id : personsByWord.getOrDefault(node.word, Set.of())) {
+                        matches.merge(id, distance, Math::min);
+                    }
+                }
+                int lowest = Math.max(1, distance - maxDistance);
+                int highest = Math.min(node.children.length - 1, distance + maxDistance);
+                for (int childDistance = lowest; childDistance <= highest; childDistance++) {
+                    if (node.children[childDistance] != null) {
+                        toVisit.push(node.children[childDistance]);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a function that gives the distance that {@link #search(List, int)} finds for an indexed person, or
+     * {@code maxDistance + 1} if it does not find the person. It follows later changes to the index, and only
+     * searches again after one.
+     */
+    public ToIntFunction<Person> distanceCounter(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        checkMaxDistance(maxDistance);
+        List<String> keywordsCopy = List.copyOf(keywords);
+        VersionCachedValue<Map<Long, Integer>> distances = new VersionCachedValue<>(this::getVersion, () ->
+                search(keywordsCopy, maxDistance));
+        return person -> distances.get().getOrDefault(person.getId(), maxDistance + 1);
+    }
+
+    /**
+     * Checks that {@code maxDistance} is from 0 to {@link #MAX_DISTANCE}.
+     * @throws IllegalArgumentException if it is not
+     */
+    static void checkMaxDistance(int maxDistance) {
+        checkArgument(maxDistance >= 0, "Distance cannot be negative");
+        checkArgument(maxDistance <= MAX_DISTANCE, "Distance cannot be more than " + MAX_DISTANCE);
+    }
+
+    /**
+     * Returns the normalized words of {@code keywords}, as they are compared to the words of names.
+     */
+    public static List<String> foldKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> words = new ArrayList<>();
+        for (String keyword : keywords) {
+            words.addAll(splitWords(Name.normalizeForIdentity(keyword)));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the smallest distance between any of {@code foldedKeywords}, as returned by
+     * {@link #foldKeywords(List)}, and a word of {@code name}, or {@code maxDistance + 1} if none of them are
+     * within {@code maxDistance} of each other.
+     */
+    public static int distance(List<String> foldedKeywords, Name name, int maxDistance) {
+        requireNonNull(foldedKeywords);
+        requireNonNull(name);
+        checkMaxDistance(maxDistance);
+        int best = maxDistance + 1;
+        for (String word : splitWords(name.getIdentityKey())) {
+            for (String keyword : foldedKeywords) {
+                best = Math.min(best, distance(keyword, word, best - 1));
+            }
+        }
+        return best;
+    }
+
+    private static int distance(String a, String b) {
+        // no two words are further apart than the length of the longer one
+        return distance(a, b, Math.max(a.length(), b.length()));
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}, or {@code limit + 1} if it is more than
+     * {@code limit}.
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                // every later row is at least as far
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    @Override
+    void unindex(Person toRemove) {
+        for (String word : splitWords(toRemove.getName().getIdentityKey())) {
+            Set<Long> persons = personsByWord.get(word);
+            if (persons != null && persons.remove(toRemove.getId()) && persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+        if (treeSize > MIN_WORDS_BEFORE_REBUILD && personsByWord.size() < treeSize / 2) {
+            // most words are unused, so rebuild when next searched
+            clear();
+        }
+    }
+
+    @Override
+    void clearEntries() {
+        root = null;
+        treeSize = 0;
+        personsByWord.clear();
+    }
+
+    @Override
+    void index(Person person) {
+        for (String word : splitWords(person.getName().getIdentityKey())) {
+            Set<Long> persons = personsByWord.computeIfAbsent(word, unused -> new HashSet<>());
+            if (persons.isEmpty()) {
+                insert(word);
+            }
+            persons.add(person.getId());
+        }
+    }
+
+    /**
+     * Adds {@code word} to the tree, unless it is in the tree already.
+     */
+    private void insert(String word) {
+        if (root == null) {
+            root = new Node(word);
+            treeSize++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = new Node(word);
+                treeSize++;
+                return;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    private static List<String> splitWords(String normalized) {
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A word in the tree, with its children keyed on their distance to it.
+     */
+    private static class Node {
+        private final String word;
+        private Node[] children = new Node[0];
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The canonical identity fields of a {@code Person}, computed once when the person is built.
+ * Guarantees: immutable; all fields are already normalized for identity comparison.
+ */
+public final class IdentityKey {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final String PHONE_KEY = "p";
+    private static final String EMAIL_KEY = "e";
+    private static final String DEFAULT_CONTACT_KEY = "d";
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final boolean hasRealPhone;
+    private final boolean hasRealEmail;
+    private final List<String> indexKeys;
+
+    /**
+     * Constructs an {@code IdentityKey} from the identity fields of a person.
+     */
+    public IdentityKey(Name name, Phone phone, Email email) {
+        requireAllNonNull(name, phone, email);
+        this.name = name.getIdentityKey();
+        this.phone = phone.getIdentityKey();
+        this.email = email.getIdentityKey();
+        this.hasRealPhone = !this.phone.equals(Person.DEFAULT_PHONE.getIdentityKey());
+        this.hasRealEmail = !this.email.equals(Person.DEFAULT_EMAIL.getIdentityKey());
+        this.indexKeys = buildIndexKeys();
+    }
+
+    /**
+     * Returns true if the person this key belongs to is the same person as the one {@code other} belongs to.
+     * Two persons are the same if they have the same normalized name, and either share the same real phone
+     * or email, or both have default phone and email.
+     */
+    public boolean isSameIdentity(IdentityKey other) {
+        if (other == this) {
+            return true;
+        }
+        if (!name.equals(other.name)) {
+            return false;
+        }
+
+        boolean isSamePhone = hasRealPhone && other.hasRealPhone && phone.equals(other.phone);
+        boolean isSameEmail = hasRealEmail && other.hasRealEmail && email.equals(other.email);
+        boolean bothPhoneAndEmailDefault = !hasRealPhone && !other.hasRealPhone
+                && !hasRealEmail && !other.hasRealEmail;
+        return isSamePhone || isSameEmail || bothPhoneAndEmailDefault;
+    }
+
+    /**
+     * Returns the hash keys of this identity. Two identities are the same as defined by
+     * {@link #isSameIdentity(IdentityKey)} iff they share at least one hash key.
+     */
+    public List<String> getIndexKeys() {
+        return indexKeys;
+    }
+
+    private List<String> buildIndexKeys() {
+        List<String> keys = new ArrayList<>(2);
+        if (hasRealPhone) {
+            keys.add(PHONE_KEY + SEPARATOR + name + SEPARATOR + phone);
+        }
+        if (hasRealEmail) {
+            keys.add(EMAIL_KEY + SEPARATOR + name + SEPARATOR + email);
+        }
+        if (!hasRealPhone && !hasRealEmail) {
+            keys.add(DEFAULT_CONTACT_KEY + SEPARATOR + name);
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdentityKey)) {
+            return false;
+        }
+
+        IdentityKey otherKey = (IdentityKey) other;
+        return name.equals(otherKey.name) && phone.equals(otherKey.phone) && email.equals(otherKey.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return indexKeys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("name", name).add("phone", phone).add("email", email).toString();
+    }
+}
@@ -3,8 +3,6 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.Normalizer;
-
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -30,6 +28,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String identityKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -39,13 +39,45 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = normalizeForIdentity(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Equivalent to matching against {@link #VALIDATION_REGEX}, without the regex engine.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isLetterMarkOrNumber(test.codePointAt(0))) {
+            return false;
+        }
+        for (int i = Character.charCount(test.codePointAt(0)); i < test.length();) {
+            int cp = test.codePointAt(i);
+            if (!isLetterMarkOrNumber(cp) && " .,'’-/()".indexOf(cp) < 0) {
+                return false;
+            }
+            i += Character.charCount(cp);
+        }
+        return true;
+    }
+
+    /** Matches {@code [\p{L}\p{M}\p{N}]}. */
+    private static boolean isLetterMarkOrNumber(int cp) {
+        switch (Character.getType(cp)) {
+        case Character.UPPERCASE_LETTER:
+        case Character.LOWERCASE_LETTER:
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+        case Character.NON_SPACING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+        case Character.ENCLOSING_MARK:
+        case Character.DECIMAL_DIGIT_NUMBER:
+        case Character.LETTER_NUMBER:
+        case Character.OTHER_NUMBER:
+            return true;
+        default:
+            return false;
+        }
     }
 
     /**
@@ -69,6 +101,8 @@ public class Name {
      * <p>
      * Intended for use in isSamePerson or search predicates.
      * Do not use for equals/hashCode or UI rendering.
+     * <p>
+     * The steps are carried out in a single scan by {@link NameNormalizer}.
      *
      * @param s raw name string (non-null)
      * @return canonical representation suitable for tolerant identity checks
@@ -80,42 +114,18 @@ public class Name {
             throw new NullPointerException(MESSAGE_CONSTRAINTS);
         }
 
-        // 1) Unicode normalize and case-fold
-        String n = Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase();
-        n = n.replaceAll("[\\p{Cf}\\u200B\\u200C\\u200D\\uFEFF]+", "")
-                .replaceAll("\\p{M}+", "");
-
-        // 2) Unify common punctuation variants (keep them, just standardize)
-        n = n
-                .replace('’', '\'')
-                .replace('‘', '\'')
-                .replace('‛', '\'')
-                .replace('‐', '-')
-                .replace('–', '-')
-                .replace('—', '-')
-                .replace('⁄', '/')
-                .replace('∕', '/');
-
-        // 3) Collapse all runs of whitespace to a single space (but keep spaces!)
-        n = n.trim().replaceAll("\\s+", " ");
-
-        // 4) Canonicalize s/o, d/o, w/o tokens regardless of spacing or slash variant
-        //    e.g. "s / o", "S⁄O", "d   /  o" -> "s/o"
-        n = n.replaceAll("\\b([sdw])\\s*[/]\\s*o\\b", "$1/o");
-
-        // 5) Ensure the token is spaced consistently: "... Xs/oY ..." -> "... X s/o Y ..."
-        //    (add space before/after s/o when joined to letters)
-        n = n.replaceAll("(?<=\\p{L})s/o\\b", " s/o");
-        n = n.replaceAll("\\bs/o(?=\\p{L})", "s/o ");
-        n = n.replaceAll("\\s*/\\s*", "/");
-
-        // 6) Collapse whitespace again in case step 5 introduced double spaces
-        n = n.trim().replaceAll("\\s+", " ");
-
-        return n;
+        return NameNormalizer.normalize(s);
     }
 
 
+    /**
+     * Returns the canonical form of this name for identity comparison, as produced by
+     * {@link #normalizeForIdentity(String)}.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -23,6 +25,15 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                         StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword));
     }
 
+    /**
+     * Returns a predicate equivalent to this one that looks the keywords up in {@code nameIndex} instead of
+     * scanning each name. Only persons indexed by {@code nameIndex} can be tested with it.
+     */
+    public Predicate<Person> using(NameIndex nameIndex) {
+        requireNonNull(nameIndex);
+        return VersionCachedPredicate.ofMatches(nameIndex::getVersion, () -> nameIndex.search(keywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,202 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over the lower-cased names of the persons in a {@link UniquePersonList}, used to find the
+ * persons whose name contains a keyword without lower-casing and scanning every name.
+ * <p>
+ * Each name is lower-cased once and given a slot, and each trigram of it lists the slots of the names that
+ * contain it, in increasing order. A keyword is looked up by intersecting the lists of its trigrams, rarest
+ * first, and checking the names left. Keywords shorter than a trigram are checked against every name.
+ * <p>
+ * Slots are never reused, so the lists stay sorted by only ever appending to them. An edited or removed person's
+ * slot is left empty instead, and the index is rebuilt once most slots are empty.
+ */
+public class NameIndex extends SearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    /** Candidates are checked directly once there are this few, rather than narrowed down further. */
+    private static final int INTERSECTION_CUTOFF = 16;
+    private static final int MIN_SLOTS_BEFORE_REBUILD = 1024;
+
+    /** Lower-cased name in each slot, or null if the slot is empty. */
+    private String[] names = new String[16];
+    /** Id of the person in each slot. */
+    private long[] personIds = new long[16];
+    private int slotCount;
+    private int liveCount;
+    /** Slot of each indexed person, keyed on {@link Person#getId()}. */
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Map<Long, Posting> postings = new HashMap<>();
+
+    /**
+     * Creates an index over the names of the persons in {@code source}.
+     */
+    NameIndex(List<Person> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains any of {@code keywords}, ignoring case and the
+     * whitespace around each keyword, as {@link seedu.address.commons.util.StringUtil#containsSubstringIgnoreCase}
+     * does.
+     *
+     * @throws IllegalArgumentException if a keyword is empty or only contains whitespace characters.
+     */
+    public Set<Long> search(List<String> keywords) {
+        requireNonNull(keywords);
+        ensureBuilt();
+
+        Set<Long> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim();
+            checkArgument(!preppedKeyword.isEmpty(), "Substring parameter cannot be empty");
+            String foldedKeyword = preppedKeyword.toLowerCase();
+            if (foldedKeyword.length() < GRAM_LENGTH) {
+                for (int slot = 0; slot < slotCount; slot++) {
+                    addIfContains(matches, slot, foldedKeyword);
+                }
+                continue;
+            }
+
+            int[] candidates = findCandidates(foldedKeyword);
+            for (int slot : candidates) {
+                addIfContains(matches, slot, foldedKeyword);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose name contains {@code keyword}, ignoring case and the
+     * whitespace around it, found without checking any name.
+     */
+    public int estimateMatches(String keyword) {
+        requireNonNull(keyword);
+        ensureBuilt();
+
+        String foldedKeyword = keyword.trim().toLowerCase();
+        int estimate = liveCount;
+        for (int k = 0; k + GRAM_LENGTH <= foldedKeyword.length(); k++) {
+            Posting posting = postings.get(gram(foldedKeyword, k));
+            if (posting == null) {
+                return 0;
+            }
+            estimate = Math.min(estimate, posting.size);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the slots of the names that contain every trigram of {@code foldedKeyword}.
+     */
+    private int[] findCandidates(String foldedKeyword) {
+        List<Posting> keywordPostings = new ArrayList<>();
+        for (int k = 0; k + GRAM_LENGTH <= foldedKeyword.length(); k++) {
+            Posting posting = postings.get(gram(foldedKeyword, k));
+            if (posting == null) {
+                return new int[0];
+            }
+            keywordPostings.add(posting);
+        }
+        keywordPostings.sort(Comparator.comparingInt(posting -> posting.size));
+
+        Posting rarest = keywordPostings.get(0);
+        int[] candidates = Arrays.copyOf(rarest.slots, rarest.size);
+        int candidateCount = candidates.length;
+        for (int k = 1; k < keywordPostings.size() && candidateCount > INTERSECTION_CUTOFF; k++) {
+            Posting posting = keywordPostings.get(k);
+            if (posting == rarest) {
+                continue;
+            }
+            int kept = 0;
+            for (int c = 0; c < candidateCount; c++) {
+                if (Arrays.binarySearch(posting.slots, 0, posting.size, candidates[c]) >= 0) {
+                    candidates[kept++] = candidates[c];
+                }
+            }
+            candidateCount = kept;
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    private void addIfContains(Set<Long> matches, int slot, String foldedKeyword) {
+        if (names[slot] != null && names[slot].contains(foldedKeyword)) {
+            matches.add(personIds[slot]);
+        }
+    }
+
+    @Override
+    void unindex(Person toRemove) {
+        Integer slot = slots.remove(toRemove.getId());
+        if (slot != null) {
+            names[slot] = null;
+            liveCount--;
+        }
+        if (slotCount > MIN_SLOTS_BEFORE_REBUILD && liveCount < slotCount / 2) {
+            // most slots are empty, so rebuild when next searched
+            clear();
+        }
+    }
+
+    @Override
+    void clearEntries() {
+        names = new String[16];
+        personIds = new long[16];
+        slotCount = 0;
+        liveCount = 0;
+        slots.clear();
+        postings.clear();
+    }
+
+    @Override
+    void index(Person person) {
+        int slot = slotCount++;
+        if (slot == names.length) {
+            names = Arrays.copyOf(names, slot * 2);
+            personIds = Arrays.copyOf(personIds, slot * 2);
+        }
+        String name = person.getName().fullName.toLowerCase();
+        names[slot] = name;
+        personIds[slot] = person.getId();
+        slots.put(person.getId(), slot);
+        liveCount++;
+        for (int k = 0; k + GRAM_LENGTH <= name.length(); k++) {
+            postings.computeIfAbsent(gram(name, k), unused -> new Posting()).add(slot);
+        }
+    }
+
+    private static long gram(String s, int start) {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+
+    /**
+     * Slots of the names that contain one trigram, in increasing order.
+     */
+    private static class Posting {
+        private int[] slots = new int[2];
+        private int size;
+
+        void add(int slot) {
+            // a trigram that occurs more than once in a name is listed once
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
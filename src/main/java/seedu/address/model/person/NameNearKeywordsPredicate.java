@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a Levenshtein distance of any of the keywords
+ * given, after both are normalized as by {@link Name#normalizeForIdentity(String)}.
+ */
+public class NameNearKeywordsPredicate implements Predicate<Person> {
+    /** Distance searched when none is given, which allows for a swapped pair of letters. */
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+
+    private final List<String> keywords;
+    private final int maxDistance;
+    private final List<String> foldedKeywords;
+
+    /**
+     * Constructs a {@code NameNearKeywordsPredicate} matching names with a word at most {@code maxDistance}
+     * edits away from a keyword, which is at most {@link FuzzyNameIndex#MAX_DISTANCE}.
+     */
+    public NameNearKeywordsPredicate(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        FuzzyNameIndex.checkMaxDistance(maxDistance);
+        this.keywords = List.copyOf(keywords);
+        this.maxDistance = maxDistance;
+        foldedKeywords = FuzzyNameIndex.foldKeywords(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return FuzzyNameIndex.distance(foldedKeywords, person.getName(), maxDistance) <= maxDistance;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that looks the keywords up in {@code fuzzyNameIndex} instead of
+     * comparing them to each name. Only persons indexed by {@code fuzzyNameIndex} can be tested with it.
+     */
+    public Predicate<Person> using(FuzzyNameIndex fuzzyNameIndex) {
+        requireNonNull(fuzzyNameIndex);
+        ToIntFunction<Person> distanceCounter = fuzzyNameIndex.distanceCounter(keywords, maxDistance);
+        return person -> distanceCounter.applyAsInt(person) <= maxDistance;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameNearKeywordsPredicate)) {
+            return false;
+        }
+
+        NameNearKeywordsPredicate otherNameNearKeywordsPredicate = (NameNearKeywordsPredicate) other;
+        return keywords.equals(otherNameNearKeywordsPredicate.keywords)
+                && maxDistance == otherNameNearKeywordsPredicate.maxDistance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxDistance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).add("maxDistance", maxDistance).toString();
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.model.person;
+
+import java.text.Normalizer;
+
+/**
+ * Single-pass implementation of {@link Name#normalizeForIdentity(String)}.
+ * <p>
+ * Produces exactly the same output as the original chain of regex replacements:
+ * <pre>
+ *   NFKC, lowercase
+ *   remove format characters, zero-width characters and \p{M}+
+ *   ’ ‘ ‛ → '   ‐ – — → -   ⁄ ∕ → /
+ *   trim, \s+ → " "
+ *   \b([sdw])\s*[/]\s*o\b → "$1/o"
+ *   (?&lt;=\p{L})s/o\b → " s/o"
+ *   \bs/o(?=\p{L}) → "s/o "
+ *   \s*&#47;\s* → "/"
+ *   trim, \s+ → " "
+ * </pre>
+ * The first four steps are applied per code point while copying into a buffer. The {@code s/o} rewrites
+ * are then applied in a second scan over that buffer, with the spacing around slashes dropped as it goes.
+ * The {@code [sdw] / o} rewrite only ever removes spaces next to a slash, which the slash rule removes
+ * anyway, so it needs no handling of its own.
+ */
+final class NameNormalizer {
+
+    private NameNormalizer() {}
+
+    /**
+     * Returns the canonical identity form of {@code s}.
+     */
+    static String normalize(String s) {
+        String n = isAscii(s) ? s : Normalizer.normalize(s, Normalizer.Form.NFKC);
+        n = n.toLowerCase();
+        return canonicalizeSlashTokens(foldAndCollapse(n));
+    }
+
+    /**
+     * Removes format characters and marks, unifies punctuation variants, collapses whitespace runs
+     * to a single space and trims the result.
+     */
+    private static String foldAndCollapse(String n) {
+        int length = n.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean isPendingSpace = false;
+        for (int i = 0; i < length;) {
+            int cp = n.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (isIgnorable(cp)) {
+                continue;
+            }
+            if (isRegexWhitespace(cp)) {
+                isPendingSpace = true;
+                continue;
+            }
+            if (isPendingSpace) {
+                out.append(' ');
+                isPendingSpace = false;
+            }
+            out.appendCodePoint(unifyPunctuation(cp));
+        }
+        if (isPendingSpace) {
+            out.append(' ');
+        }
+        return trim(out);
+    }
+
+    /**
+     * Applies the {@code s/o} spacing rules and removes the spaces around slashes.
+     */
+    private static String canonicalizeSlashTokens(String t) {
+        if (t.indexOf('/') < 0) {
+            return t;
+        }
+
+        int length = t.length();
+        // spaceBefore[i]: a space is inserted before t[i] by the (?<=\p{L})s/o\b rule.
+        boolean[] spaceBefore = new boolean[length + 1];
+        for (int i = t.indexOf("s/o"); i >= 0; i = t.indexOf("s/o", i + 3)) {
+            if (i > 0 && Character.isLetter(t.charAt(i - 1)) && !isWordAt(t, i + 3)) {
+                spaceBefore[i] = true;
+            }
+        }
+
+        StringBuilder out = new StringBuilder(length + 4);
+        for (int i = 0; i < length; i++) {
+            char c = t.charAt(i);
+            if (spaceBefore[i]) {
+                out.append(' ');
+            }
+            if (c == ' ' && (isSlashAt(t, i - 1) || isSlashAt(t, i + 1))) {
+                continue;
+            }
+            out.append(c);
+            if (c == 'o' && i >= 2 && t.startsWith("s/", i - 2) && isSoFollowedByLetter(t, i - 2, spaceBefore)) {
+                out.append(' ');
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns true if the {@code s/o} at {@code start} matches {@code \bs/o(?=\p{L})} after the
+     * {@code (?<=\p{L})s/o\b} rule has been applied.
+     */
+    private static boolean isSoFollowedByLetter(String t, int start, boolean[] spaceBefore) {
+        int end = start + 3;
+        if (spaceBefore[start] || spaceBefore[end] || end >= t.length()) {
+            return false;
+        }
+        boolean isBoundaryBefore = start == 0 || !isWord(t.codePointBefore(start));
+        return isBoundaryBefore && Character.isLetter(t.codePointAt(end));
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Matches format characters, zero-width characters (U+200B to U+200D, U+FEFF) and {@code \p{M}}. */
+    private static boolean isIgnorable(int cp) {
+        switch (Character.getType(cp)) {
+        case Character.FORMAT:
+        case Character.NON_SPACING_MARK:
+        case Character.COMBINING_SPACING_MARK:
+        case Character.ENCLOSING_MARK:
+            return true;
+        default:
+            return cp == 0x200B || cp == 0x200C || cp == 0x200D || cp == 0xFEFF;
+        }
+    }
+
+    /** Matches the default (non-Unicode) regex class {@code \s}. */
+    private static boolean isRegexWhitespace(int cp) {
+        return cp == ' ' || cp == '\t' || cp == '\n' || cp == 0x0B || cp == '\f' || cp == '\r';
+    }
+
+    private static int unifyPunctuation(int cp) {
+        switch (cp) {
+        case '’':
+        case '‘':
+        case '‛':
+            return '\'';
+        case '‐':
+        case '–':
+        case '—':
+            return '-';
+        case '⁄':
+        case '∕':
+            return '/';
+        default:
+            return cp;
+        }
+    }
+
+    /** Equivalent to {@link String#trim()}. */
+    private static String trim(CharSequence s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return s.subSequence(start, end).toString();
+    }
+
+    /** Word characters as used by the regex {@code \b} boundary. */
+    private static boolean isWord(int cp) {
+        return cp == '_' || Character.isLetterOrDigit(cp);
+    }
+
+    private static boolean isWordAt(String t, int index) {
+        return index < t.length() && isWord(t.codePointAt(index));
+    }
+
+    private static boolean isSlashAt(String t, int index) {
+        return index >= 0 && index < t.length() && t.charAt(index) == '/';
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * Undirected graph of pairings between person ids, stored as a growable {@code int} array of partners per id.
+ * Avoids boxing ids and allocating a set per person, which a {@code SetMultimap<Integer, Integer>} would do.
+ * Ids are expected to be small non-negative integers, as handed out and reused by {@link UniquePersonList}.
+ */
+class PairingGraph {
+
+    private static final int[] NO_PARTNERS = new int[0];
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_PARTNER_CAPACITY = 4;
+
+    /** partners[id][0, degrees[id]) holds the partners of id, in no particular order. */
+    private int[][] partners = new int[INITIAL_CAPACITY][];
+    private int[] degrees = new int[INITIAL_CAPACITY];
+    private int edgeCount;
+
+    /**
+     * Pairs {@code a} and {@code b}. Returns false if they were already paired.
+     */
+    public boolean add(int a, int b) {
+        if (contains(a, b)) {
+            return false;
+        }
+        append(a, b);
+        append(b, a);
+        edgeCount++;
+        return true;
+    }
+
+    /**
+     * Unpairs {@code a} and {@code b}. Returns false if they were not paired.
+     */
+    public boolean remove(int a, int b) {
+        if (!removeDirected(a, b)) {
+            return false;
+        }
+        removeDirected(b, a);
+        edgeCount--;
+        return true;
+    }
+
+    /**
+     * Returns true if {@code a} and {@code b} are paired.
+     */
+    public boolean contains(int a, int b) {
+        // scan the shorter of the two partner lists
+        return degree(a) <= degree(b) ? indexOf(a, b) >= 0 : indexOf(b, a) >= 0;
+    }
+
+    /**
+     * Returns the number of partners of {@code id}.
+     */
+    public int degree(int id) {
+        return id < degrees.length ? degrees[id] : 0;
+    }
+
+    /**
+     * Returns a copy of the partners of {@code id}.
+     */
+    public int[] partnersOf(int id) {
+        int degree = degree(id);
+        return degree == 0 ? NO_PARTNERS : Arrays.copyOf(partners[id], degree);
+    }
+
+    /**
+     * Removes all pairings of {@code id}.
+     */
+    public void removeAll(int id) {
+        int degree = degree(id);
+        for (int i = 0; i < degree; i++) {
+            removeDirected(partners[id][i], id);
+        }
+        if (degree > 0) {
+            partners[id] = null;
+            degrees[id] = 0;
+            edgeCount -= degree;
+        }
+    }
+
+    /**
+     * Returns the number of pairings in the graph.
+     */
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Removes all pairings.
+     */
+    public void clear() {
+        partners = new int[INITIAL_CAPACITY][];
+        degrees = new int[INITIAL_CAPACITY];
+        edgeCount = 0;
+    }
+
+    /**
+     * Replaces the pairings in this graph with a copy of the pairings in {@code other}.
+     */
+    public void setAll(PairingGraph other) {
+        partners = new int[other.partners.length][];
+        for (int id = 0; id < other.partners.length; id++) {
+            if (other.degrees[id] > 0) {
+                partners[id] = Arrays.copyOf(other.partners[id], other.degrees[id]);
+            }
+        }
+        degrees = Arrays.copyOf(other.degrees, other.degrees.length);
+        edgeCount = other.edgeCount;
+    }
+
+    private void append(int from, int to) {
+        ensureCapacity(from);
+        int[] list = partners[from];
+        int degree = degrees[from];
+        if (list == null) {
+            list = new int[INITIAL_PARTNER_CAPACITY];
+        } else if (degree == list.length) {
+            list = Arrays.copyOf(list, degree * 2);
+        }
+        list[degree] = to;
+        partners[from] = list;
+        degrees[from] = degree + 1;
+    }
+
+    private boolean removeDirected(int from, int to) {
+        int index = indexOf(from, to);
+        if (index < 0) {
+            return false;
+        }
+        int last = --degrees[from];
+        partners[from][index] = partners[from][last];
+        return true;
+    }
+
+    private int indexOf(int from, int to) {
+        int degree = degree(from);
+        for (int i = 0; i < degree; i++) {
+            if (partners[from][i] == to) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < partners.length) {
+            return;
+        }
+        int capacity = Math.max(partners.length * 2, id + 1);
+        partners = Arrays.copyOf(partners, capacity);
+        degrees = Arrays.copyOf(degrees, capacity);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -24,6 +25,11 @@ public class Person {
     public static final Email DEFAULT_EMAIL = new Email("default@email");
     public static final Address DEFAULT_ADDRESS = new Address("Default Address");
 
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    // Surrogate key, kept across edits made via toBuilder()
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -33,12 +39,17 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags;
 
+    private final IdentityKey identityKey;
+
     private final PersonBuilder personBuilder;
 
     /**
      * The Builder for the Person class.
      */
     public static class PersonBuilder extends Builder<PersonBuilder> {
+        // Id of the person this builder edits, if any
+        private Long id;
+
         // Required parameters
         private Name name;
 
@@ -70,6 +81,7 @@ public class Person {
          * Copy constructor.
          */
         public PersonBuilder(PersonBuilder toCopy) {
+            this.id = toCopy.id;
             this.name = toCopy.name;
             this.phone = toCopy.phone;
             this.email = toCopy.email;
@@ -77,6 +89,14 @@ public class Person {
             this.tags = toCopy.tags;
         }
 
+        /**
+         * Setter for the id, so that the built person replaces the person with the given id.
+         */
+        public PersonBuilder id(long id) {
+            this.id = id;
+            return this;
+        }
+
         /**
          * Setter for the name parameter.
          */
@@ -234,6 +254,10 @@ public class Person {
             return CollectionUtil.isAnyNonNull(name, phone, email, address, tags);
         }
 
+        public Long getId() {
+            return this.id;
+        }
+
         public Name getName() {
             return this.name;
         }
@@ -286,11 +310,19 @@ public class Person {
      */
     public Person(PersonBuilder builder) {
         requireAllNonNull(builder.name);
+        if (builder.id != null) {
+            this.id = builder.id;
+            // ids loaded from a file must not be handed out again
+            NEXT_ID.getAndUpdate(next -> Math.max(next, builder.id + 1));
+        } else {
+            this.id = NEXT_ID.getAndIncrement();
+        }
         this.name = builder.name;
         this.phone = builder.phone != null ? builder.phone : DEFAULT_PHONE;
         this.email = builder.email != null ? builder.email : DEFAULT_EMAIL;
         this.address = builder.address != null ? builder.address : DEFAULT_ADDRESS;
         this.tags = builder.tags != null ? builder.tags : new HashSet<>();
+        this.identityKey = new IdentityKey(name, phone, email);
         this.personBuilder = builder;
     }
 
@@ -298,7 +330,14 @@ public class Person {
      * Converts the Person back to Builder form so that it can be easily modified.
      */
     public PersonBuilder toBuilder() {
-        return new PersonBuilder(this.personBuilder);
+        return new PersonBuilder(this.personBuilder).id(id);
+    }
+
+    /**
+     * Returns the id of this person. Unlike {@link #hashCode()}, it does not change when the person is edited.
+     */
+    public long getId() {
+        return id;
     }
 
     /**
@@ -330,10 +369,10 @@ public class Person {
     }
 
     /**
-     * Trims and converts the given email to lowercase for consistent comparison.
+     * Returns the precomputed canonical identity fields of this person.
      */
-    private String normalizeEmail(String email) {
-        return email.trim().toLowerCase();
+    public IdentityKey getIdentityKey() {
+        return identityKey;
     }
 
     /**
@@ -358,38 +397,7 @@ public class Person {
             return true;
         }
 
-        // normalize names (case-insensitive, trimmed)
-        String thisName = Name.normalizeForIdentity(this.getName().fullName);
-        String otherName = Name.normalizeForIdentity(otherPerson.getName().fullName);
-        if (!thisName.equals(otherName)) {
-            return false;
-        }
-
-        // normalize contact values
-        String thisPhone = Phone.normalizeForIdentity(getPhone().value);
-        String otherPhone = Phone.normalizeForIdentity(otherPerson.getPhone().value);
-        String thisEmail = normalizeEmail(getEmail().value);
-        String otherEmail = normalizeEmail(otherPerson.getEmail().value);
-
-
-        // identify real contacts
-        boolean thisHasRealPhone = !thisPhone.equals(DEFAULT_PHONE.value);
-        boolean otherHasRealPhone = !otherPhone.equals(DEFAULT_PHONE.value);
-        boolean thisHasRealEmail = !thisEmail.equals(DEFAULT_EMAIL.value);
-        boolean otherHasRealEmail = !otherEmail.equals(DEFAULT_EMAIL.value);
-
-        // compare only when both sides have real data
-        boolean isSamePhone = thisHasRealPhone && otherHasRealPhone && thisPhone.equals(otherPhone);
-        boolean isSameEmail = thisHasRealEmail && otherHasRealEmail && thisEmail.equals(otherEmail);
-
-        // if both phones default & same; if both emails default → same
-        boolean bothPhonesDefault = !thisHasRealPhone && !otherHasRealPhone;
-        boolean bothEmailsDefault = !thisHasRealEmail && !otherHasRealEmail;
-        boolean bothPhoneAndEmailDefault = bothPhonesDefault && bothEmailsDefault;
-        // same name AND (
-        //    same real phone OR same real email OR both phones default OR both emails default
-        // )
-        return isSamePhone || isSameEmail || bothPhoneAndEmailDefault;
+        return identityKey.isSameIdentity(otherPerson.identityKey);
     }
 
     /**
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -29,6 +30,16 @@ public class PersonContainsTagPredicate implements Predicate<Person> {
         return tags.stream().anyMatch(tag -> person.getTags().contains(tag));
     }
 
+    /**
+     * Returns a predicate equivalent to this one that looks the tags up in {@code tagIndex} instead of
+     * testing the tags of each person. Only persons indexed by {@code tagIndex} can be tested with it.
+     */
+    public Predicate<Person> using(TagIndex tagIndex) {
+        requireNonNull(tagIndex);
+        ToIntFunction<Person> matchCounter = tagIndex.matchCounter(tags);
+        return person -> matchCounter.applyAsInt(person) > 0;
+    }
+
     public Set<Tag> getTags() {
         return Set.copyOf(tags);
         // Make a copy to ensure that modifying the set returned does not
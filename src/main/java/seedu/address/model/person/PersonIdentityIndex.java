@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hash index over the identity fields of persons, used by {@link UniquePersonList} to detect duplicates
+ * without scanning the whole list.
+ * <p>
+ * Each person is indexed under the {@link IdentityKey#getIndexKeys() index keys} of its identity, and two
+ * persons are the same (see {@link Person#isSamePerson(Person)}) exactly when they share at least one of them.
+ */
+class PersonIdentityIndex {
+
+    private final Map<String, Person> keyToPerson = new HashMap<>();
+
+    /**
+     * Returns true if a person with the same identity as {@code toCheck} is indexed.
+     */
+    public boolean contains(Person toCheck) {
+        return find(toCheck) != null;
+    }
+
+    /**
+     * Returns an indexed person with the same identity as {@code toCheck}, or null if there is none.
+     */
+    public Person find(Person toCheck) {
+        requireNonNull(toCheck);
+        for (String key : toCheck.getIdentityKey().getIndexKeys()) {
+            Person match = keyToPerson.get(key);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indexes {@code toAdd} under all of its identity keys.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (String key : toAdd.getIdentityKey().getIndexKeys()) {
+            keyToPerson.put(key, toAdd);
+        }
+    }
+
+    /**
+     * Removes the index entries that point to {@code toRemove}.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (String key : toRemove.getIdentityKey().getIndexKeys()) {
+            keyToPerson.remove(key, toRemove);
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        keyToPerson.clear();
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code other}.
+     */
+    public void setAll(PersonIdentityIndex other) {
+        requireNonNull(other);
+        keyToPerson.clear();
+        keyToPerson.putAll(other.keyToPerson);
+    }
+}
@@ -23,6 +23,8 @@ public class Phone {
     public static final String VALIDATION_REGEX = "^\\+?\\d(?:[ -]?\\d){2,}$";
     public final String value;
 
+    private final String identityKey;
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -33,14 +35,35 @@ public class Phone {
         String s = phone.trim();
         checkArgument(isValidPhone(s), MESSAGE_CONSTRAINTS);
         this.value = s;
+        this.identityKey = normalizeForIdentity(s);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
+     * Equivalent to matching the trimmed string against {@link #VALIDATION_REGEX}, without the regex engine.
      */
     public static boolean isValidPhone(String test) {
         requireNonNull(test);
-        return test.trim().matches(VALIDATION_REGEX);
+        String s = test.trim();
+        int i = s.startsWith("+") ? 1 : 0;
+        int digitCount = 0;
+        boolean isAfterSeparator = false;
+        for (; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isAsciiDigit(c)) {
+                digitCount++;
+                isAfterSeparator = false;
+            } else if ((c == ' ' || c == '-') && digitCount > 0 && !isAfterSeparator) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return digitCount >= 3 && !isAfterSeparator;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /** Canonicalize: remove spaces/dashes; preserve a single leading '+', if present. */
@@ -56,6 +79,14 @@ public class Phone {
         return canonicalize(s.trim());
     }
 
+    /**
+     * Returns the canonical form of this phone number for identity comparison, as produced by
+     * {@link #normalizeForIdentity(String)}.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -74,12 +105,12 @@ public class Phone {
 
         Phone otherPhone = (Phone) other;
         // Compare using normalized forms so "+65 123-456" == "+65123456" and "123 456" == "123-456"
-        return normalizeForIdentity(this.value).equals(normalizeForIdentity(otherPhone.value));
+        return identityKey.equals(otherPhone.identityKey);
     }
 
     @Override
     public int hashCode() {
-        return normalizeForIdentity(this.value).hashCode();
+        return identityKey.hashCode();
     }
 
 }
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * An index over the persons of a {@link UniquePersonList} that searches look persons up in.
+ * <p>
+ * The list keeps its indexes in step with it through {@link #add(Person)}, {@link #remove(Person)} and
+ * {@link #clear()}. Until a subclass calls {@link #ensureBuilt()} to search, these only count changes in the
+ * version, and the entries are built from the list on the first search.
+ */
+abstract class SearchIndex {
+
+    private final List<Person> source;
+
+    private boolean isBuilt;
+    private long version;
+
+    /**
+     * Creates an index over the persons in {@code source}.
+     */
+    SearchIndex(List<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns a number that increases whenever the indexed persons change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indexes the persons in the source list, unless they are indexed already.
+     */
+    void ensureBuilt() {
+        if (isBuilt) {
+            return;
+        }
+        for (Person person : source) {
+            index(person);
+        }
+        isBuilt = true;
+    }
+
+    /**
+     * Indexes {@code toAdd}, which must not be indexed already.
+     */
+    void add(Person toAdd) {
+        requireNonNull(toAdd);
+        version++;
+        if (isBuilt) {
+            index(toAdd);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from the index.
+     */
+    void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        version++;
+        if (isBuilt) {
+            unindex(toRemove);
+        }
+    }
+
+    /**
+     * Removes all entries from the index, which is rebuilt from the source list when next searched.
+     */
+    void clear() {
+        version++;
+        isBuilt = false;
+        clearEntries();
+    }
+
+    /**
+     * Adds the entries of {@code person} to the built index.
+     */
+    abstract void index(Person person);
+
+    /**
+     * Removes the entries of {@code person}, if any, from the built index.
+     */
+    abstract void unindex(Person person);
+
+    /**
+     * Removes all entries, leaving the index as it was before it was built.
+     */
+    abstract void clearEntries();
+}
@@ -34,6 +34,7 @@ public class Student extends Person {
     @Override
     public StudentBuilder toBuilder() {
         return (StudentBuilder) new StudentBuilder()
+                .id(this.getId())
                 .name(this.getName())
                 .phone(this.getPhone())
                 .email(this.getEmail())
@@ -45,7 +46,11 @@ public class Student extends Person {
      * Converts the PersonBuilder object to a StudentBuilder object.
      */
     public static StudentBuilder toBuilder(PersonBuilder personBuilder) {
-        return (StudentBuilder) new StudentBuilder()
+        StudentBuilder builder = new StudentBuilder();
+        if (personBuilder.getId() != null) {
+            builder.id(personBuilder.getId());
+        }
+        return (StudentBuilder) builder
                 .name(personBuilder.getName())
                 .phone(personBuilder.getPhone())
                 .email(personBuilder.getEmail())
@@ -58,6 +63,7 @@ public class Student extends Person {
      */
     public static StudentBuilder toBuilder(Person person) {
         return (StudentBuilder) new StudentBuilder()
+                .id(person.getId())
                 .name(person.getName())
                 .phone(person.getPhone())
                 .email(person.getEmail())
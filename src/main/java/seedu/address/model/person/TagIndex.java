@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Inverted index from each tag to the persons of a {@link UniquePersonList} that have it, used to find the
+ * persons with any of a set of tags without testing every person.
+ * <p>
+ * Each person is given a slot, and each tag keeps a bitset of the slots of the persons with it, so a search
+ * costs time in proportion to the number of matches. Tags are compared ignoring case, as {@link Tag} does.
+ * The slots of removed persons are reused, which bitsets allow as they do not need their slots in any order.
+ */
+public class TagIndex extends SearchIndex {
+
+    /** Id of the person in each slot. */
+    private long[] personIds = new long[16];
+    private int slotCount;
+    private final BitSet freeSlots = new BitSet();
+    /** Slot of each indexed person, keyed on {@link Person#getId()}. */
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Map<Tag, BitSet> postings = new HashMap<>();
+
+    /**
+     * Creates an index over the tags of the persons in {@code source}.
+     */
+    TagIndex(List<Person> source) {
+        super(source);
+    }
+
+    /**
+     * Returns the number of {@code tags} that each person with at least one of them has, keyed on the
+     * person's {@link Person#getId()}.
+     */
+    public Map<Long, Integer> countMatches(Set<Tag> tags) {
+        requireNonNull(tags);
+        ensureBuilt();
+
+        // counted per posting entry, so the cost follows the number of matches rather than of persons
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Tag tag : tags) {
+            BitSet posting = postings.get(tag);
+            if (posting == null) {
+                continue;
+            }
+            for (int slot = posting.nextSetBit(0); slot >= 0; slot = posting.nextSetBit(slot + 1)) {
+                matches.merge(personIds[slot], 1, Integer::sum);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a function that gives the number of {@code tags} that an indexed person has, as
+     * {@link #countMatches(Set)} does. It follows later changes to the index, and only counts again after one.
+     */
+    public ToIntFunction<Person> matchCounter(Set<Tag> tags) {
+        requireNonNull(tags);
+        Set<Tag> tagsCopy = Set.copyOf(tags);
+        VersionCachedValue<Map<Long, Integer>> counts = new VersionCachedValue<>(this::getVersion, () ->
+                countMatches(tagsCopy));
+        return person -> counts.get().getOrDefault(person.getId(), 0);
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int estimateMatches(Tag tag) {
+        requireNonNull(tag);
+        ensureBuilt();
+        BitSet posting = postings.get(tag);
+        return posting == null ? 0 : posting.cardinality();
+    }
+
+    @Override
+    void unindex(Person toRemove) {
+        Integer slot = slots.remove(toRemove.getId());
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : toRemove.getTags()) {
+            BitSet posting = postings.get(tag);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+        freeSlots.set(slot);
+    }
+
+    @Override
+    void clearEntries() {
+        personIds = new long[16];
+        slotCount = 0;
+        freeSlots.clear();
+        slots.clear();
+        postings.clear();
+    }
+
+    @Override
+    void index(Person person) {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot >= 0) {
+            freeSlots.clear(slot);
+        } else {
+            slot = slotCount++;
+            if (slot == personIds.length) {
+                personIds = Arrays.copyOf(personIds, slot * 2);
+            }
+        }
+        personIds[slot] = person.getId();
+        slots.put(person.getId(), slot);
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+}
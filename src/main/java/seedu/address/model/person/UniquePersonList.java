@@ -1,21 +1,21 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
-
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -32,90 +32,203 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
-    private final BiMap<Person, Integer> ids = HashBiMap.create();
-    private int nextId = 0;
+    /**
+     * Dense pairing id of each person, keyed on {@link Person#getId()}. The ids of removed persons are handed out
+     * again, so they stay below the largest number of persons the list has held at once.
+     */
+    private final Map<Long, Integer> ids = new HashMap<>();
+    /** Person with each pairing id, or null if the id is free. */
+    private final List<Person> personsById = new ArrayList<>();
+    /** Pairing ids of removed persons, which have no pairings left and are handed out before new ids. */
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    private final PairingGraph links = new PairingGraph();
 
-    private final SetMultimap<Integer, Integer> links = HashMultimap.create();
+    private final PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+
+    private final NameIndex nameIndex = new NameIndex(internalList);
+    private final TagIndex tagIndex = new TagIndex(internalList);
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex(internalList);
+    private final List<SearchIndex> searchIndexes = List.of(nameIndex, tagIndex, fuzzyNameIndex);
+
+    /** Position of each person in {@code internalList}, keyed on {@link Person#getId()}. */
+    private final Map<Long, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(toCheck);
     }
 
     /**
      * Adds a person to the list.
+     * The person must not already exist in the list, either as an equivalent person or as an earlier
+     * version with the same id.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || ids.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getId(), internalList.size());
+        // update the indexes FIRST, so predicates that use them can find toAdd when internalList.add(...) re-tests it
+        searchIndexes.forEach(searchIndex -> searchIndex.add(toAdd));
         internalList.add(toAdd);
-        ids.put(toAdd, nextId++);
+        if (freeIds.isEmpty()) {
+            ids.put(toAdd.getId(), personsById.size());
+            personsById.add(toAdd);
+        } else {
+            int id = freeIds.pop();
+            ids.put(toAdd.getId(), id);
+            personsById.set(id, toAdd);
+        }
+        identityIndex.add(toAdd);
     }
 
+    /**
+     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * {@code target} may also be an earlier version of the person in the list, as they share the same id.
+     */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person current = internalList.get(index);
+        boolean isRekeyed = current.getId() != editedPerson.getId();
+        if ((!current.isSamePerson(editedPerson) && contains(editedPerson))
+                || (isRekeyed && ids.containsKey(editedPerson.getId()))) {
             throw new DuplicatePersonException();
         }
 
-        // migrate id FIRST, so listeners triggered by internalList.set(...) can resolve editedPerson
-        Integer id = ids.remove(target);
-        if (id == null) {
-            throw new PersonNotFoundException();
+        int id = ids.get(current.getId());
+        if (isRekeyed) {
+            ids.remove(current.getId());
+            ids.put(editedPerson.getId(), id);
+            positions.remove(current.getId());
+            positions.put(editedPerson.getId(), index);
+        }
+        // update id lookups FIRST, so listeners triggered by internalList.set(...) can resolve editedPerson
+        personsById.set(id, editedPerson);
+        identityIndex.remove(current);
+        identityIndex.add(editedPerson);
+        for (SearchIndex searchIndex : searchIndexes) {
+            searchIndex.remove(current);
+            searchIndex.add(editedPerson);
         }
-        ids.put(editedPerson, id);
 
         internalList.set(index, editedPerson);
     }
 
-
-
     /**
      * Removes the equivalent person from the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person resolved = resolve(toRemove);
+        if (resolved == null) {
             throw new PersonNotFoundException();
         }
-        Integer id = ids.remove(toRemove);
-        if (id != null) {
-            unpairAllById(id);
+        Integer index = positions.remove(resolved.getId());
+        // update positions FIRST, so listeners triggered by internalList.remove(...) see the new order
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i - 1);
         }
+        searchIndexes.forEach(searchIndex -> searchIndex.remove(resolved));
+        Person removed = internalList.remove(index.intValue());
+        identityIndex.remove(removed);
+        int id = ids.remove(removed.getId());
+        personsById.set(id, null);
+        unpairAllById(id);
+        freeIds.push(id);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        searchIndexes.forEach(SearchIndex::clear);
         internalList.setAll(replacement.internalList);
         ids.clear();
         ids.putAll(replacement.ids);
-        nextId = replacement.nextId;
-        links.clear();
-        links.putAll(replacement.links);
+        personsById.clear();
+        personsById.addAll(replacement.personsById);
+        freeIds.clear();
+        freeIds.addAll(replacement.freeIds);
+        links.setAll(replacement.links);
+        identityIndex.setAll(replacement.identityIndex);
     }
 
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        PersonIdentityIndex replacementIndex = buildIdentityIndex(persons);
+        Map<Long, Integer> replacementPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (replacementPositions.put(persons.get(i).getId(), i) != null) {
+                throw new DuplicatePersonException();
+            }
         }
+        positions.clear();
+        positions.putAll(replacementPositions);
+        searchIndexes.forEach(SearchIndex::clear);
         internalList.setAll(persons);
+        // pairing ids follow list positions for a fresh list
         ids.clear();
-        nextId = 0;
-        for (Person p : internalList) {
-            ids.put(p, nextId++);
-        }
+        ids.putAll(replacementPositions);
+        personsById.clear();
+        personsById.addAll(persons);
+        freeIds.clear();
         links.clear();
+        identityIndex.setAll(replacementIndex);
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain it.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Person resolved = resolve(person);
+        return resolved == null ? -1 : positions.get(resolved.getId());
+    }
+
+    /**
+     * Returns the person in the list with the same id as {@code person}, or failing that, an equal person.
+     * Returns null if there is neither.
+     */
+    private Person resolve(Person person) {
+        Integer index = positions.get(person.getId());
+        if (index != null) {
+            return internalList.get(index);
+        }
+        // a copy of a person in the list has a different id but is equal to it
+        Person match = identityIndex.find(person);
+        return match != null && person.equals(match) ? match : null;
+    }
+
+
+    /**
+     * Returns the index over the names of the persons in the list.
+     */
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Returns the index over the tags of the persons in the list.
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the index over the words of the names of the persons in the list, for fuzzy search.
+     */
+    public FuzzyNameIndex getFuzzyNameIndex() {
+        return fuzzyNameIndex;
     }
 
     public ObservableList<Person> asUnmodifiableObservableList() {
@@ -151,15 +264,15 @@ public class UniquePersonList implements Iterable<Person> {
 
     private Integer getId(Person p) {
         requireNonNull(p);
-        Integer id = ids.get(p);
-        if (id == null) {
+        Person resolved = resolve(p);
+        if (resolved == null) {
             throw new PersonNotFoundException();
         }
-        return id;
+        return ids.get(resolved.getId());
     }
 
     private Person getPersonById(int id) {
-        Person p = ids.inverse().get(id);
+        Person p = id < personsById.size() ? personsById.get(id) : null;
         if (p == null) {
             throw new PersonNotFoundException();
         }
@@ -178,11 +291,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (a == b) {
             throw new IllegalArgumentException("cannot pair with self");
         }
-        if (!ids.inverse().containsKey(a) || !ids.inverse().containsKey(b)) {
+        if (!isLiveId(a) || !isLiveId(b)) {
             throw new NoSuchElementException("id not found");
         }
-        links.put(a, b);
-        links.put(b, a);
+        links.add(a, b);
     }
 
     /**
@@ -193,9 +305,12 @@ public class UniquePersonList implements Iterable<Person> {
         unpairById(getId(a), getId(b));
     }
 
+    private boolean isLiveId(int id) {
+        return id >= 0 && id < personsById.size() && personsById.get(id) != null;
+    }
+
     private void unpairById(int a, int b) {
         links.remove(a, b);
-        links.remove(b, a);
     }
 
     /**
@@ -207,10 +322,6 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     private void unpairAllById(int id) {
-        Set<Integer> partners = Set.copyOf(links.get(id));
-        for (Integer other : partners) {
-            links.remove(other, id);
-        }
         links.removeAll(id);
     }
 
@@ -223,11 +334,18 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     private boolean isPairedById(int a, int b) {
-        return links.get(a).contains(b);
+        return links.contains(a, b);
     }
 
-    private Set<Integer> getPairedIds(int id) {
-        return Collections.unmodifiableSet(new LinkedHashSet<>(links.get(id)));
+    /**
+     * Returns true if {@code p} is paired with at least one person.
+     * Unlike the other pairing methods, it does not require {@code p} to be in the list.
+     */
+    public boolean hasPartner(Person p) {
+        requireNonNull(p);
+        // looked up by id rather than resolved, as this is also called while p is being added to internalList
+        Integer id = ids.get(p.getId());
+        return id != null && links.degree(id) > 0;
     }
 
     /**
@@ -236,19 +354,55 @@ public class UniquePersonList implements Iterable<Person> {
     public Set<Person> getPairedPersons(Person p) {
         requireNonNull(p);
         int id = getId(p);
-        return getPairedIds(id).stream()
-                .map(this::getPersonById)
+        return Arrays.stream(links.partnersOf(id))
+                .mapToObj(this::getPersonById)
                 .collect(Collectors.toUnmodifiableSet());
     }
 
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    /**
+     * Returns all pairings as consecutive pairs of positions in the list, listing each pairing once.
+     */
+    public int[] getPairingIndexes() {
+        int[] indexes = new int[links.edgeCount() * 2];
+        int k = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            int id = ids.get(internalList.get(i).getId());
+            for (int partner : links.partnersOf(id)) {
+                if (partner > id) {
+                    indexes[k++] = i;
+                    indexes[k++] = positions.get(personsById.get(partner).getId());
                 }
             }
         }
-        return true;
+        return indexes;
+    }
+
+    /**
+     * Replaces all pairings with the pairs of positions in {@code indexes}, as returned by
+     * {@link #getPairingIndexes()}.
+     */
+    public void setPairingIndexes(int[] indexes) {
+        requireNonNull(indexes);
+        checkArgument(indexes.length % 2 == 0, "pairing indexes must come in pairs");
+        links.clear();
+        for (int k = 0; k < indexes.length; k += 2) {
+            pairById(getId(internalList.get(indexes[k])), getId(internalList.get(indexes[k + 1])));
+        }
+    }
+
+    /**
+     * Builds an identity index over {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    private static PersonIdentityIndex buildIdentityIndex(List<Person> persons) {
+        PersonIdentityIndex index = new PersonIdentityIndex();
+        for (Person p : persons) {
+            if (index.contains(p)) {
+                throw new DuplicatePersonException();
+            }
+            index.add(p);
+        }
+        return index;
     }
 }
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Tests persons with a predicate worked out from an index, such as one that checks the ids of the persons found
+ * by a search. The predicate is only worked out again when the index's version changes, rather than once per
+ * person tested.
+ */
+public class VersionCachedPredicate implements Predicate<Person> {
+    private final VersionCachedValue<Predicate<Person>> predicate;
+
+    /**
+     * Creates a predicate that tests persons with the predicate from {@code predicateSupplier}, which is asked
+     * for a new one whenever {@code versionSupplier} returns a different version.
+     */
+    public VersionCachedPredicate(LongSupplier versionSupplier, Supplier<Predicate<Person>> predicateSupplier) {
+        predicate = new VersionCachedValue<>(versionSupplier, predicateSupplier);
+    }
+
+    /**
+     * Returns a predicate that tests if a person's {@link Person#getId()} is in the matches from
+     * {@code matchesSupplier}, which is asked for new matches whenever {@code versionSupplier} returns a different
+     * version.
+     */
+    public static VersionCachedPredicate ofMatches(LongSupplier versionSupplier,
+            Supplier<? extends Collection<Long>> matchesSupplier) {
+        requireNonNull(matchesSupplier);
+        return new VersionCachedPredicate(versionSupplier, () -> {
+            Collection<Long> matches = matchesSupplier.get();
+            return person -> matches.contains(person.getId());
+        });
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.get().test(person);
+    }
+}
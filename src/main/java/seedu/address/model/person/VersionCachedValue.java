@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Supplies a value worked out from an index, such as the persons found by a search, which is only worked out
+ * again when the index's version changes.
+ */
+public class VersionCachedValue<T> implements Supplier<T> {
+    private final LongSupplier versionSupplier;
+    private final Supplier<T> valueSupplier;
+
+    private boolean isCached;
+    private long version;
+    private T value;
+
+    /**
+     * Creates a supplier of the value from {@code valueSupplier}, which is asked for a new value whenever
+     * {@code versionSupplier} returns a different version.
+     */
+    public VersionCachedValue(LongSupplier versionSupplier, Supplier<T> valueSupplier) {
+        requireNonNull(versionSupplier);
+        requireNonNull(valueSupplier);
+        this.versionSupplier = versionSupplier;
+        this.valueSupplier = valueSupplier;
+    }
+
+    @Override
+    public T get() {
+        long currentVersion = versionSupplier.getAsLong();
+        if (!isCached || version != currentVersion) {
+            value = valueSupplier.get();
+            version = currentVersion;
+            isCached = true;
+        }
+        return value;
+    }
+}
@@ -34,6 +34,7 @@ public class Volunteer extends Person {
     @Override
     public VolunteerBuilder toBuilder() {
         return (VolunteerBuilder) new VolunteerBuilder()
+                .id(this.getId())
                 .name(this.getName())
                 .phone(this.getPhone())
                 .email(this.getEmail())
@@ -45,7 +46,11 @@ public class Volunteer extends Person {
      * Converts the PersonBuilder object to a VolunteerBuilder object.
      */
     public static VolunteerBuilder toBuilder(PersonBuilder personBuilder) {
-        return (VolunteerBuilder) new VolunteerBuilder()
+        VolunteerBuilder builder = new VolunteerBuilder();
+        if (personBuilder.getId() != null) {
+            builder.id(personBuilder.getId());
+        }
+        return (VolunteerBuilder) builder
                 .name(personBuilder.getName())
                 .phone(personBuilder.getPhone())
                 .email(personBuilder.getEmail())
@@ -58,6 +63,7 @@ public class Volunteer extends Person {
      */
     public static VolunteerBuilder toBuilder(Person person) {
         return (VolunteerBuilder) new VolunteerBuilder()
+                .id(person.getId())
                 .name(person.getName())
                 .phone(person.getPhone())
                 .email(person.getEmail())
@@ -0,0 +1,76 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagIndex;
+import seedu.address.model.person.VersionCachedPredicate;
+
+/**
+ * Tests that a {@code Person} matches a {@link Query}.
+ */
+public class PersonMatchesQueryPredicate implements Predicate<Person> {
+    private final Query query;
+    private final Predicate<Person> isPaired;
+
+    /**
+     * Constructs a {@code PersonMatchesQueryPredicate} that tests if a person is paired with {@code isPaired}.
+     */
+    public PersonMatchesQueryPredicate(Query query, Predicate<Person> isPaired) {
+        requireNonNull(query);
+        requireNonNull(isPaired);
+        this.query = query;
+        this.isPaired = isPaired;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return query.matches(person, isPaired);
+    }
+
+    /**
+     * Returns a predicate equivalent to this one that is planned by a {@link QueryPlanner} over {@code nameIndex}
+     * and {@code tagIndex}, and tests if a person is paired with {@code isPaired} instead.
+     * Only persons indexed by both indexes can be tested with it.
+     */
+    public Predicate<Person> using(NameIndex nameIndex, TagIndex tagIndex, Predicate<Person> isPaired) {
+        QueryPlanner planner = new QueryPlanner(nameIndex, tagIndex, isPaired);
+        // versions only increase, so their sum changes whenever either of them does
+        return new VersionCachedPredicate(() -> nameIndex.getVersion() + tagIndex.getVersion(),
+                () -> planner.plan(query));
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesQueryPredicate)) {
+            return false;
+        }
+
+        // how pairing is looked up does not change which persons match
+        PersonMatchesQueryPredicate otherPredicate = (PersonMatchesQueryPredicate) other;
+        return query.equals(otherPredicate.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
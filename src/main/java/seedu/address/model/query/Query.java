@@ -0,0 +1,404 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A boolean query over the persons in the address book, made up of terms combined with AND, OR and NOT.
+ * <p>
+ * Whether a person is paired is not part of the person, so it is looked up with the {@code isPaired} test given
+ * to {@link #matches(Person, Predicate)}.
+ */
+public interface Query {
+
+    /**
+     * Returns true if {@code person} matches this query, where {@code isPaired} tests if a person has a partner.
+     */
+    boolean matches(Person person, Predicate<Person> isPaired);
+
+    /**
+     * Matches persons that match all of the given queries.
+     */
+    final class And implements Query {
+        private final List<Query> operands;
+
+        /**
+         * Creates a query matching persons that match all of {@code operands}.
+         */
+        public And(List<Query> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "AND needs at least two operands");
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return operands.stream().allMatch(operand -> operand.matches(person, isPaired));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof And)) {
+                return false;
+            }
+
+            And otherAnd = (And) other;
+            return operands.equals(otherAnd.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(And.class, operands);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("operands", operands).toString();
+        }
+    }
+
+    /**
+     * Matches persons that match any of the given queries.
+     */
+    final class Or implements Query {
+        private final List<Query> operands;
+
+        /**
+         * Creates a query matching persons that match any of {@code operands}.
+         */
+        public Or(List<Query> operands) {
+            requireNonNull(operands);
+            checkArgument(operands.size() >= 2, "OR needs at least two operands");
+            this.operands = List.copyOf(operands);
+        }
+
+        public List<Query> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return operands.stream().anyMatch(operand -> operand.matches(person, isPaired));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Or)) {
+                return false;
+            }
+
+            Or otherOr = (Or) other;
+            return operands.equals(otherOr.operands);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Or.class, operands);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("operands", operands).toString();
+        }
+    }
+
+    /**
+     * Matches persons that do not match the given query.
+     */
+    final class Not implements Query {
+        private final Query operand;
+
+        /**
+         * Creates a query matching persons that do not match {@code operand}.
+         */
+        public Not(Query operand) {
+            requireNonNull(operand);
+            this.operand = operand;
+        }
+
+        public Query getOperand() {
+            return operand;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return !operand.matches(person, isPaired);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Not)) {
+                return false;
+            }
+
+            Not otherNot = (Not) other;
+            return operand.equals(otherNot.operand);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Not.class, operand);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("operand", operand).toString();
+        }
+    }
+
+    /**
+     * Matches persons whose name contains the keyword, ignoring case, as {@code find} does.
+     */
+    final class NameTerm implements Query {
+        private final String keyword;
+
+        /**
+         * Creates a query matching persons whose name contains {@code keyword}.
+         */
+        public NameTerm(String keyword) {
+            requireNonNull(keyword);
+            checkArgument(!keyword.isBlank(), "Name keyword cannot be empty");
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof NameTerm)) {
+                return false;
+            }
+
+            NameTerm otherNameTerm = (NameTerm) other;
+            return keyword.equals(otherNameTerm.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(NameTerm.class, keyword);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("keyword", keyword).toString();
+        }
+    }
+
+    /**
+     * Matches persons tagged with the tag, ignoring case, as {@code findtag} does.
+     */
+    final class TagTerm implements Query {
+        private final Tag tag;
+
+        /**
+         * Creates a query matching persons tagged with {@code tag}.
+         */
+        public TagTerm(Tag tag) {
+            requireNonNull(tag);
+            this.tag = tag;
+        }
+
+        public Tag getTag() {
+            return tag;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return person.getTags().contains(tag);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof TagTerm)) {
+                return false;
+            }
+
+            TagTerm otherTagTerm = (TagTerm) other;
+            return tag.equals(otherTagTerm.tag);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(TagTerm.class, tag);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("tag", tag).toString();
+        }
+    }
+
+    /**
+     * Matches persons of the given type.
+     */
+    final class TypeTerm implements Query {
+        private final EntryType type;
+
+        /**
+         * Creates a query matching persons of {@code type}.
+         */
+        public TypeTerm(EntryType type) {
+            requireNonNull(type);
+            this.type = type;
+        }
+
+        public EntryType getType() {
+            return type;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return person.getType().equalsIgnoreCase(type.name());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof TypeTerm)) {
+                return false;
+            }
+
+            TypeTerm otherTypeTerm = (TypeTerm) other;
+            return type.equals(otherTypeTerm.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(TypeTerm.class, type);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("type", type).toString();
+        }
+    }
+
+    /**
+     * Matches persons whose email is at the given domain or at one of its subdomains, ignoring case.
+     */
+    final class EmailDomainTerm implements Query {
+        private final String domain;
+
+        /**
+         * Creates a query matching persons whose email is at {@code domain} or one of its subdomains.
+         */
+        public EmailDomainTerm(String domain) {
+            requireNonNull(domain);
+            checkArgument(!domain.isBlank(), "Email domain cannot be empty");
+            this.domain = domain;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            String emailDomain = person.getEmail().getDomain();
+            return emailDomain.equalsIgnoreCase(domain)
+                    || emailDomain.regionMatches(true, emailDomain.length() - domain.length() - 1,
+                            "." + domain, 0, domain.length() + 1);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof EmailDomainTerm)) {
+                return false;
+            }
+
+            EmailDomainTerm otherEmailDomainTerm = (EmailDomainTerm) other;
+            return domain.equals(otherEmailDomainTerm.domain);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(EmailDomainTerm.class, domain);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("domain", domain).toString();
+        }
+    }
+
+    /**
+     * Matches persons that are paired with at least one other person.
+     */
+    final class PairedTerm implements Query {
+        @Override
+        public boolean matches(Person person, Predicate<Person> isPaired) {
+            return isPaired.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // instanceof handles nulls
+            return other instanceof PairedTerm;
+        }
+
+        @Override
+        public int hashCode() {
+            return PairedTerm.class.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).toString();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagIndex;
+
+/**
+ * Plans how to find the persons matching a {@link Query} with the name and tag indexes of an address book.
+ * <p>
+ * Name and tag terms are looked up in the indexes, which gives the ids of the persons they match, and the other
+ * terms are tested against each person. Under an AND, the indexed term expected to match the fewest persons is
+ * looked up first, and each other indexed term is only looked up if it is expected to match fewer persons than
+ * are left. Otherwise it is tested against the persons left instead, as that is cheaper than listing its
+ * matches. Terms that can only be tested are tested last, and only against the persons left.
+ */
+public class QueryPlanner {
+
+    private final NameIndex nameIndex;
+    private final TagIndex tagIndex;
+    private final Predicate<Person> isPaired;
+
+    /**
+     * Creates a planner that looks terms up in {@code nameIndex} and {@code tagIndex}, and tests if a person is
+     * paired with {@code isPaired}.
+     */
+    public QueryPlanner(NameIndex nameIndex, TagIndex tagIndex, Predicate<Person> isPaired) {
+        requireNonNull(nameIndex);
+        requireNonNull(tagIndex);
+        requireNonNull(isPaired);
+        this.nameIndex = nameIndex;
+        this.tagIndex = tagIndex;
+        this.isPaired = isPaired;
+    }
+
+    /**
+     * Returns a predicate that tests if a person indexed by the indexes matches {@code query}.
+     * The lookups are done when planning, so the predicate is only valid until the indexes next change.
+     */
+    public Predicate<Person> plan(Query query) {
+        requireNonNull(query);
+        return toPlan(query);
+    }
+
+    private Plan toPlan(Query query) {
+        if (query instanceof Query.And) {
+            return planAnd((Query.And) query);
+        }
+        if (query instanceof Query.Or) {
+            return planOr((Query.Or) query);
+        }
+        if (query instanceof Query.Not) {
+            Plan operand = toPlan(((Query.Not) query).getOperand());
+            return new Plan(null, operand.negate());
+        }
+        if (isIndexed(query)) {
+            return new Plan(lookUp(query), null);
+        }
+        return new Plan(null, person -> query.matches(person, isPaired));
+    }
+
+    private Plan planAnd(Query.And and) {
+        List<Set<Long>> candidateSets = new ArrayList<>();
+        List<Predicate<Person>> tests = new ArrayList<>();
+        List<Query> indexedTerms = new ArrayList<>();
+        for (Query operand : and.getOperands()) {
+            if (isIndexed(operand)) {
+                indexedTerms.add(operand);
+                continue;
+            }
+            Plan plan = toPlan(operand);
+            if (plan.candidates != null) {
+                candidateSets.add(plan.candidates);
+            }
+            if (plan.filter != null) {
+                tests.add(plan.filter);
+            }
+        }
+
+        List<Estimate> estimates = new ArrayList<>();
+        for (Query term : indexedTerms) {
+            estimates.add(new Estimate(term, estimateMatches(term)));
+        }
+        estimates.sort(Comparator.comparingInt(estimate -> estimate.matches));
+        for (Estimate estimate : estimates) {
+            int fewestCandidates = candidateSets.stream().mapToInt(Set::size).min().orElse(Integer.MAX_VALUE);
+            if (estimate.matches < fewestCandidates) {
+                candidateSets.add(lookUp(estimate.term));
+            } else {
+                tests.add(person -> estimate.term.matches(person, isPaired));
+            }
+        }
+
+        return new Plan(intersect(candidateSets), allOf(tests));
+    }
+
+    private Plan planOr(Query.Or or) {
+        List<Plan> plans = new ArrayList<>();
+        for (Query operand : or.getOperands()) {
+            plans.add(toPlan(operand));
+        }
+        if (plans.stream().allMatch(plan -> plan.filter == null)) {
+            Set<Long> union = new HashSet<>();
+            plans.forEach(plan -> union.addAll(plan.candidates));
+            return new Plan(union, null);
+        }
+        return new Plan(null, person -> plans.stream().anyMatch(plan -> plan.test(person)));
+    }
+
+    private static boolean isIndexed(Query query) {
+        return query instanceof Query.NameTerm || query instanceof Query.TagTerm;
+    }
+
+    private int estimateMatches(Query indexedTerm) {
+        if (indexedTerm instanceof Query.NameTerm) {
+            return nameIndex.estimateMatches(((Query.NameTerm) indexedTerm).getKeyword());
+        }
+        return tagIndex.estimateMatches(((Query.TagTerm) indexedTerm).getTag());
+    }
+
+    private Set<Long> lookUp(Query indexedTerm) {
+        if (indexedTerm instanceof Query.NameTerm) {
+            return nameIndex.search(List.of(((Query.NameTerm) indexedTerm).getKeyword()));
+        }
+        return tagIndex.countMatches(Set.of(((Query.TagTerm) indexedTerm).getTag())).keySet();
+    }
+
+    /**
+     * Returns the ids in all of {@code candidateSets}, or null if there are no sets to intersect.
+     */
+    private static Set<Long> intersect(List<Set<Long>> candidateSets) {
+        if (candidateSets.isEmpty()) {
+            return null;
+        }
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> intersection = new HashSet<>();
+        for (Long id : candidateSets.get(0)) {
+            if (candidateSets.stream().allMatch(candidates -> candidates.contains(id))) {
+                intersection.add(id);
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns a predicate that passes persons that pass all of {@code tests}, or null if there are no tests.
+     */
+    private static Predicate<Person> allOf(List<Predicate<Person>> tests) {
+        if (tests.isEmpty()) {
+            return null;
+        }
+        return person -> tests.stream().allMatch(test -> test.test(person));
+    }
+
+    /**
+     * An indexed term with the number of persons its index estimates it matches.
+     */
+    private static class Estimate {
+        private final Query term;
+        private final int matches;
+
+        Estimate(Query term, int matches) {
+            this.term = term;
+            this.matches = matches;
+        }
+    }
+
+    /**
+     * Persons matching part of a query: those whose id is in {@code candidates} and that pass {@code filter},
+     * where a null {@code candidates} or {@code filter} does not restrict the persons.
+     */
+    private static class Plan implements Predicate<Person> {
+        private final Set<Long> candidates;
+        private final Predicate<Person> filter;
+
+        Plan(Set<Long> candidates, Predicate<Person> filter) {
+            this.candidates = candidates;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return (candidates == null || candidates.contains(person.getId()))
+                    && (filter == null || filter.test(person));
+        }
+    }
+}
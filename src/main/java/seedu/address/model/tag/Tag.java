@@ -27,9 +27,20 @@ public class Tag {
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Equivalent to matching against {@link #VALIDATION_REGEX}, without the regex engine.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            boolean isAlnum = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (!isAlnum) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
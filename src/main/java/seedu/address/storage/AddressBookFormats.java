@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for each {@link AddressBookFormat}, and converts data files from one
+ * format to another when the format is changed.
+ */
+public final class AddressBookFormats {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormats.class);
+
+    private AddressBookFormats() {}
+
+    /**
+     * Returns the storage for the data file at {@code filePath} in {@code format}, compressing JSON data files
+     * at {@code compressionLevel}. Segmented data files and databases already save only what changed, so only
+     * the other formats are journaled.
+     */
+    public static AddressBookStorage createStorage(AddressBookFormat format, Path filePath, int compressionLevel) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(filePath);
+        case SQL:
+            return new SqlAddressBookStorage(filePath);
+        case BINARY:
+            return new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        default:
+            return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath, compressionLevel));
+        }
+    }
+
+    /**
+     * Returns true if there is a data file in {@code format} at {@code filePath}.
+     */
+    public static boolean hasDataFile(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case SEGMENTED:
+            return Files.isRegularFile(filePath) && SegmentedAddressBookStorage.isManifestFile(filePath);
+        case SQL:
+            return Files.exists(SqlAddressBookStorage.getDatabaseFilePath(filePath));
+        case BINARY:
+            return Files.isRegularFile(filePath) && BinaryAddressBookStream.isBinaryFile(filePath);
+        default:
+            return Files.isRegularFile(filePath) && JsonAddressBookStream.isAddressBookFile(filePath);
+        }
+    }
+
+    /**
+     * Returns the storage for the data file at {@code filePath} in {@code format}, as by
+     * {@link #createStorage(AddressBookFormat, Path, int)}. If there is no data file in {@code format} but there
+     * is one in another format, such as after the format was changed in the preferences, it is first converted to
+     * {@code format}, rather than being read as {@code format} and taken for a corrupted data file.
+     *
+     * @throws DataLoadingException if the data file in the other format could not be read. It is left as it is.
+     * @throws IOException if the data file could not be converted.
+     */
+    public static AddressBookStorage openStorage(AddressBookFormat format, Path filePath, int compressionLevel)
+            throws DataLoadingException, IOException {
+        AddressBookStorage storage = createStorage(format, filePath, compressionLevel);
+        if (hasDataFile(format, filePath)) {
+            return storage;
+        }
+
+        for (AddressBookFormat otherFormat : AddressBookFormat.values()) {
+            if (otherFormat != format && hasDataFile(otherFormat, filePath)) {
+                logger.info("Converting " + otherFormat + " data file " + filePath + " to " + format);
+                AddressBookStorage otherStorage = createStorage(otherFormat, filePath, compressionLevel);
+                Optional<ReadOnlyAddressBook> addressBook;
+                try {
+                    addressBook = otherStorage.readAddressBook();
+                } finally {
+                    otherStorage.close();
+                }
+                if (addressBook.isPresent()) {
+                    storage.saveAddressBook(addressBook.get());
+                }
+                break;
+            }
+        }
+        return storage;
+    }
+}
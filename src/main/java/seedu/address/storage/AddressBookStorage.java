@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Releases what the storage keeps open between saves, such as a database connection.
+     * Does nothing by default.
+     * @throws IOException if there was any problem releasing it.
+     */
+    default void close() throws IOException {}
+
 }
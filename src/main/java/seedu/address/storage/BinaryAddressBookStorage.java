@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * Loads and saves faster and takes less space than {@link JsonAddressBookStorage}. Data files in other formats
+ * are converted by {@link AddressBookFormats} when the format is changed.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryAddressBookStream.read(filePath));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a crash while saving leaves the previous version intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        BinaryAddressBookStream.write(addressBook, tempFilePath);
+        FileUtil.sync(tempFilePath);
+        FileUtil.move(tempFilePath, filePath);
+        FileUtil.syncDirectory(filePath.toAbsolutePath().getParent());
+    }
+
+}
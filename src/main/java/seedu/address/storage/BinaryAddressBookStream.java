@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the binary format of {@link BinaryAddressBookStorage}.
+ * <p>
+ * A file holds, in order: the magic bytes and a version byte, a table of the emails, addresses and tag names
+ * used, the persons, and the pairings. Emails, addresses and tags are stored as indexes into the table, since
+ * most books repeat them (e.g. the default email and address). Counts, lengths and indexes are unsigned
+ * varints and strings are length-prefixed UTF-8. Each person is a type byte, the id, the name and phone, the
+ * email and address indexes, and the tag indexes. Each pairing is the positions of its two persons.
+ * Version 1 files have no ids, so their persons are given new ids when read.
+ */
+final class BinaryAddressBookStream {
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_CORRUPTED = "Corrupted binary address book: %s";
+
+    static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+    static final int VERSION = 2;
+    /** Oldest version that can still be read. */
+    static final int MIN_VERSION = 1;
+    /** First version that stores the ids of persons. */
+    private static final int VERSION_WITH_IDS = 2;
+
+    private static final int TYPE_PERSON = 0;
+    private static final int TYPE_STUDENT = 1;
+    private static final int TYPE_VOLUNTEER = 2;
+    private static final String[] TYPE_NAMES = {"person", "student", "volunteer"};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Files at least this large are memory-mapped rather than read onto the heap. */
+    private static final long MAP_THRESHOLD = 1 << 20;
+
+    // Windows cannot replace a file while it is mapped, and a mapping is only released once it is garbage collected
+    private static final boolean CAN_REPLACE_MAPPED_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private BinaryAddressBookStream() {}
+
+    /**
+     * Reads the address book in {@code filePath}.
+     * Large files are decoded straight from a memory-mapped view, without copying the file onto the heap.
+     *
+     * @throws IOException if the file could not be read or is not in the binary format.
+     * @throws IllegalValueException if a person in the file violates the data constraints.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try {
+            return read(new Reader(readBuffer(filePath)));
+        } catch (BufferUnderflowException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "unexpected end of file"), e);
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath} starts with the magic bytes of the binary format.
+     */
+    static boolean isBinaryFile(Path filePath) {
+        byte[] magic = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.readNBytes(magic, 0, magic.length) == magic.length && Arrays.equals(magic, MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static ByteBuffer readBuffer(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "file too large " + size));
+            }
+            if (size >= MAP_THRESHOLD && CAN_REPLACE_MAPPED_FILES) {
+                // the mapping stays valid after the channel is closed
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static AddressBook read(Reader in) throws IOException, IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        in.buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readUnsignedByte();
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[in.readCount()];
+        for (int k = 0; k < strings.length; k++) {
+            strings[k] = in.readString();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = in.readCount();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        for (int k = 0; k < personCount; k++) {
+            int type = in.readUnsignedByte();
+            if (type >= TYPE_NAMES.length) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "unknown person type " + type));
+            }
+            Long id = version >= VERSION_WITH_IDS ? in.readVarlong() : null;
+            String name = in.readString();
+            String phone = in.readString();
+            String email = strings[in.readIndex(strings)];
+            String address = strings[in.readIndex(strings)];
+            int tagCount = in.readCount();
+            List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+            for (int t = 0; t < tagCount; t++) {
+                tags.add(new JsonAdaptedTag(strings[in.readIndex(strings)]));
+            }
+            batch.add(new JsonAdaptedPerson(id, name, phone, email, address, tags, TYPE_NAMES[type]));
+            if (batch.size() == JsonAddressBookStream.DECODE_BATCH_SIZE) {
+                JsonSerializableAddressBook.addPersons(addressBook, batch);
+                batch.clear();
+            }
+        }
+        JsonSerializableAddressBook.addPersons(addressBook, batch);
+
+        int pairingCount = in.readCount();
+        for (int k = 0; k < pairingCount; k++) {
+            JsonSerializableAddressBook.addPairing(addressBook, in.readVarint(), in.readVarint());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            strings.putIfAbsent(person.getEmail().value, strings.size());
+            strings.putIfAbsent(person.getAddress().value, strings.size());
+            for (Tag tag : person.getTags()) {
+                strings.putIfAbsent(tag.tagName, strings.size());
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE))) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+
+            writeVarint(out, strings.size());
+            for (String string : strings.keySet()) {
+                writeString(out, string);
+            }
+
+            writeVarint(out, persons.size());
+            for (Person person : persons) {
+                out.writeByte(getType(person));
+                writeVarlong(out, person.getId());
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeVarint(out, strings.get(person.getEmail().value));
+                writeVarint(out, strings.get(person.getAddress().value));
+                writeVarint(out, person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    writeVarint(out, strings.get(tag.tagName));
+                }
+            }
+
+            int[] indexes = addressBook.getPairingIndexes();
+            int[] savable = new int[indexes.length];
+            int savableLength = 0;
+            for (int k = 0; k < indexes.length; k += 2) {
+                if (JsonSerializableAddressBook.isSavablePairing(persons, indexes[k], indexes[k + 1])) {
+                    savable[savableLength++] = Math.min(indexes[k], indexes[k + 1]);
+                    savable[savableLength++] = Math.max(indexes[k], indexes[k + 1]);
+                }
+            }
+            writeVarint(out, savableLength / 2);
+            for (int k = 0; k < savableLength; k++) {
+                writeVarint(out, savable[k]);
+            }
+        }
+    }
+
+    private static int getType(Person person) {
+        if (person instanceof Student) {
+            return TYPE_STUDENT;
+        } else if (person instanceof Volunteer) {
+            return TYPE_VOLUNTEER;
+        } else {
+            return TYPE_PERSON;
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeVarlong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes values from a buffer holding a whole file.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        // reused for decoding strings, so that only the strings themselves are allocated
+        private byte[] scratch = new byte[256];
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readUnsignedByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "invalid varint"));
+        }
+
+        long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "invalid varint"));
+        }
+
+        /**
+         * Reads a count or length, which cannot exceed the bytes left in a valid file. This guards against
+         * allocating huge arrays for corrupted files.
+         */
+        int readCount() throws IOException {
+            int count = readVarint();
+            if (count > buffer.remaining()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "count larger than the file " + count));
+            }
+            return count;
+        }
+
+        int readIndex(String[] strings) throws IOException {
+            int index = readVarint();
+            if (index >= strings.length) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "string index out of bounds " + index));
+            }
+            return index;
+        }
+
+        String readString() throws IOException {
+            int length = readCount();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that keeps a snapshot in another {@code AddressBookStorage} and appends the
+ * changes made since then to a journal next to it, one JSON record per line.
+ * <p>
+ * Saving writes only the records for what changed since the previous save, found by comparing persons by
+ * {@link Person#getId()}. The snapshot is rewritten, and the journal emptied, once the journal holds more than
+ * the compaction threshold's worth of records, or when a change cannot be expressed as records.
+ * Reading loads the snapshot and replays the journal on top of it. The first line of the journal holds the
+ * checksum of the snapshot it applies to, so a journal left behind by an interrupted compaction is ignored.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Persons as they are on disk, in order, keyed on {@link Person#getId()}, or null if unknown. */
+    private Map<Long, Person> persistedPersons;
+    /** Pairings as they are on disk, as the ids of the paired persons, smaller id first. */
+    private Set<List<Long>> persistedPairings;
+    /** Checksum of the snapshot that the journal applies to, or null if the journal cannot be appended to. */
+    private Long journalChecksum;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and
+     * compacts the journal once it would hold more than {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. The journal is only replayed when reading from
+     * {@link #getAddressBookFilePath()}.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        persistedPersons = null;
+        journalChecksum = null;
+        journalRecordCount = 0;
+        if (snapshot.isEmpty()) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        replayJournal(addressBook, filePath);
+        remember(addressBook);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Saving to any file other than
+     * {@link #getAddressBookFilePath()} writes a snapshot without a journal.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<JsonJournalRecord> records = persistedPersons == null || journalChecksum == null
+                ? null
+                : diff(persistedPersons, persistedPairings, addressBook);
+        try {
+            if (records == null || journalRecordCount + records.size() > compactionThreshold) {
+                compact(addressBook, filePath);
+            } else {
+                append(records, filePath);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the journal may now be partly written, so start over from a new snapshot next time
+            journalChecksum = null;
+            throw e;
+        }
+        remember(addressBook);
+    }
+
+    /**
+     * Records {@code addressBook} as what is on disk, so that the next save can journal only what changed since.
+     * Persons are immutable, so keeping them is enough to keep later changes out of the record.
+     */
+    private void remember(ReadOnlyAddressBook addressBook) {
+        persistedPersons = getPersonsById(addressBook);
+        persistedPairings = getPairingIds(addressBook);
+    }
+
+    /**
+     * Applies the journal of the snapshot at {@code filePath} to {@code addressBook}. A last record that cannot
+     * be read, as left by a crash while it was written, is skipped, and the journal is compacted on the next save.
+     *
+     * @throws DataLoadingException if the journal cannot be read or any other record cannot be applied.
+     */
+    @Override
+    public void close() throws IOException {
+        snapshotStorage.close();
+    }
+
+    private void replayJournal(AddressBook addressBook, Path filePath) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            Long checksum = header == null ? null : parse(header).getSnapshotChecksum();
+            if (checksum == null || checksum != checksumOf(filePath)) {
+                logger.info("Ignoring journal " + journalFilePath + " as it was written for another snapshot.");
+                return;
+            }
+
+            int recordCount = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                JsonJournalRecord record;
+                try {
+                    record = parse(line);
+                } catch (IOException e) {
+                    if (reader.readLine() != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring the last record of journal " + journalFilePath
+                            + " as it was cut short: " + e);
+                    return;
+                }
+                record.applyTo(addressBook);
+                recordCount++;
+            }
+            logger.info("Replayed " + recordCount + " records from journal " + journalFilePath);
+            journalChecksum = checksum;
+            journalRecordCount = recordCount;
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            logger.warning("Could not replay journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static JsonJournalRecord parse(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        long checksum = checksumOf(filePath);
+        writeJournal(getJournalFilePath(filePath), List.of(JsonJournalRecord.snapshot(checksum)),
+                StandardOpenOption.TRUNCATE_EXISTING);
+        journalChecksum = checksum;
+        journalRecordCount = 0;
+    }
+
+    private void append(List<JsonJournalRecord> records, Path filePath) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        writeJournal(getJournalFilePath(filePath), records, StandardOpenOption.APPEND);
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Writes {@code records} to the journal and waits until they are on the disk.
+     */
+    private static void writeJournal(Path journalFilePath, List<JsonJournalRecord> records,
+                                     StandardOpenOption mode) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static long checksumOf(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the records that turn {@code from} into {@code to}, or null if the change cannot be expressed
+     * as records. Records are ordered as deletions, edits, additions, unpairings and then pairings.
+     */
+    static List<JsonJournalRecord> diff(ReadOnlyAddressBook from, ReadOnlyAddressBook to) {
+        return diff(getPersonsById(from), getPairingIds(from), to);
+    }
+
+    /**
+     * Similar to {@link #diff(ReadOnlyAddressBook, ReadOnlyAddressBook)}, with the address book to change given as
+     * its persons in order, keyed on {@link Person#getId()}, and its pairings as returned by
+     * {@link #getPairingIds(ReadOnlyAddressBook)}.
+     */
+    private static List<JsonJournalRecord> diff(Map<Long, Person> oldPersonsById, Set<List<Long>> oldPairings,
+                                                ReadOnlyAddressBook to) {
+        List<Person> oldPersons = new ArrayList<>(oldPersonsById.values());
+        List<Person> newPersons = to.getPersonList();
+        Map<Long, Integer> newPositions = new HashMap<>();
+        for (int k = 0; k < newPersons.size(); k++) {
+            newPositions.put(newPersons.get(k).getId(), k);
+        }
+
+        List<JsonJournalRecord> records = new ArrayList<>();
+        List<Person> kept = new ArrayList<>();
+        // deleting from the back keeps the positions of the persons still to be deleted unchanged
+        for (int k = oldPersons.size() - 1; k >= 0; k--) {
+            if (!newPositions.containsKey(oldPersons.get(k).getId())) {
+                records.add(JsonJournalRecord.delete(k));
+            }
+        }
+        for (Person person : oldPersons) {
+            if (newPositions.containsKey(person.getId())) {
+                kept.add(person);
+            }
+        }
+
+        boolean hasIdentityEdit = false;
+        for (int k = 0; k < kept.size(); k++) {
+            Person before = kept.get(k);
+            Person after = newPersons.get(k);
+            if (before.getId() != after.getId()) {
+                // the remaining persons were reordered
+                return null;
+            }
+            if (before == after || before.equals(after) && after.equals(before)) {
+                continue;
+            }
+            if (!before.isSamePerson(after)) {
+                if (hasIdentityEdit) {
+                    // replaying one such edit at a time may clash with another person's old identity
+                    return null;
+                }
+                hasIdentityEdit = true;
+            }
+            records.add(JsonJournalRecord.set(k, after));
+        }
+        for (int k = kept.size(); k < newPersons.size(); k++) {
+            records.add(JsonJournalRecord.add(newPersons.get(k)));
+        }
+
+        Set<List<Long>> newPairings = getPairingIds(to);
+        for (List<Long> pairing : oldPairings) {
+            Integer a = newPositions.get(pairing.get(0));
+            Integer b = newPositions.get(pairing.get(1));
+            // pairings of deleted persons are removed along with them
+            if (a != null && b != null && !newPairings.contains(pairing)) {
+                records.add(JsonJournalRecord.unpair(a, b));
+            }
+        }
+        for (List<Long> pairing : newPairings) {
+            if (!oldPairings.contains(pairing)) {
+                records.add(JsonJournalRecord.pair(newPositions.get(pairing.get(0)),
+                        newPositions.get(pairing.get(1))));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} in order, keyed on {@link Person#getId()}.
+     */
+    private static Map<Long, Person> getPersonsById(ReadOnlyAddressBook addressBook) {
+        Map<Long, Person> persons = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getId(), person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the pairings of {@code addressBook} as the ids of the paired persons, smaller id first.
+     */
+    private static Set<List<Long>> getPairingIds(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        int[] indexes = addressBook.getPairingIndexes();
+        Set<List<Long>> pairings = new HashSet<>();
+        for (int k = 0; k < indexes.length; k += 2) {
+            long a = persons.get(indexes[k]).getId();
+            long b = persons.get(indexes[k + 1]).getId();
+            pairings.add(List.of(Math.min(a, b), Math.max(a, b)));
+        }
+        return pairings;
+    }
+}
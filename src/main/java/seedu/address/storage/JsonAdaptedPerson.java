@@ -26,8 +26,9 @@ class JsonAdaptedPerson {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
     private static final String UNSUPPORTED_TYPE_MESSAGE = "Unsupported or missing entry type: "
             + "%s (expected 'student' or 'volunteer')";
+    public static final String INVALID_ID_MESSAGE = "Person's id should not be negative: %d";
 
-
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -35,14 +36,25 @@ class JsonAdaptedPerson {
     private final String type;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+                             String type) {
+        this(null, name, phone, email, address, tags, type);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A person without an id is given a new one when converted to the model type.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                             @JsonProperty("email") String email, @JsonProperty("address") String address,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                             @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+                             @JsonProperty("address") String address,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("type") String type) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -58,6 +70,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -81,6 +94,19 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(id);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but the person is given {@code id} rather than the id held here.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(long id) throws IllegalValueException {
+        return toModelType(Long.valueOf(id));
+    }
+
+    private Person toModelType(Long id) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -129,34 +155,33 @@ class JsonAdaptedPerson {
                 ? "person"
                 : type.trim().toLowerCase();
 
+        final Person.PersonBuilder builder;
         switch (normalized) {
         case "student":
-            return new Student.StudentBuilder()
-                    .name(modelName)
-                    .phone(modelPhone)
-                    .email(modelEmail)
-                    .address(modelAddress)
-                    .tags(modelTags)
-                    .build();
+            builder = new Student.StudentBuilder();
+            break;
         case "volunteer":
-            return new Volunteer.VolunteerBuilder()
-                    .name(modelName)
-                    .phone(modelPhone)
-                    .email(modelEmail)
-                    .address(modelAddress)
-                    .tags(modelTags)
-                    .build();
+            builder = new Volunteer.VolunteerBuilder();
+            break;
         // optionally allow "person"
         case "person":
-            return new Person.PersonBuilder()
-                    .name(modelName)
-                    .phone(modelPhone)
-                    .email(modelEmail)
-                    .address(modelAddress)
-                    .tags(modelTags)
-                    .build();
+            builder = new Person.PersonBuilder();
+            break;
         default:
             throw new IllegalValueException(String.format(UNSUPPORTED_TYPE_MESSAGE, type));
         }
+
+        builder.name(modelName)
+                .phone(modelPhone)
+                .email(modelEmail)
+                .address(modelAddress)
+                .tags(modelTags);
+        if (id != null) {
+            if (id < 0) {
+                throw new IllegalValueException(String.format(INVALID_ID_MESSAGE, id));
+            }
+            builder.id(id);
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly list of the segment files that make up an address book saved by
+ * {@link SegmentedAddressBookStorage}, in the order of their persons.
+ */
+class JsonAddressBookManifest {
+
+    static final String SEGMENTS_FIELD = "segments";
+
+    private final List<String> segments = new ArrayList<>();
+    private final long nextSegmentNumber;
+
+    /**
+     * Constructs a {@code JsonAddressBookManifest} with the given segment file names, and the number to use in
+     * the name of the next segment file.
+     */
+    @JsonCreator
+    JsonAddressBookManifest(@JsonProperty(SEGMENTS_FIELD) List<String> segments,
+                            @JsonProperty("nextSegmentNumber") long nextSegmentNumber) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        this.nextSegmentNumber = nextSegmentNumber;
+    }
+
+    List<String> getSegments() {
+        return segments;
+    }
+
+    long getNextSegmentNumber() {
+        return nextSegmentNumber;
+    }
+}
@@ -1,30 +1,60 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.FileUtil.createIfMissing;
-import static seedu.address.commons.util.JsonUtil.saveJsonFile;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * Saving writes a temporary file next to the data file, copies the previous data file to the backup file, and
+ * then atomically moves the temporary file over the data file, so the data file is always complete and present.
+ * Data files whose name ends with {@code .gz} are GZIP-compressed.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_INVALID_COMPRESSION_LEVEL =
+            "Compression level should be from 0 to 9, or -1 for the default level";
+
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that compresses data files whose name ends with {@code .gz}
+     * at the given deflate level, which is from 0 to 9, or -1 for the default level.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(isValidCompressionLevel(compressionLevel), MESSAGE_INVALID_COMPRESSION_LEVEL);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns true if {@code compressionLevel} is a valid deflate level.
+     */
+    public static boolean isValidCompressionLevel(int compressionLevel) {
+        return compressionLevel == Deflater.DEFAULT_COMPRESSION
+                || compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION;
     }
 
     public Path getAddressBookFilePath() {
@@ -46,34 +76,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
         try {
-            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                    filePath, JsonSerializableAddressBook.class);
-            if (!jsonAddressBook.isPresent()) {
+            if (!Files.exists(filePath)) {
                 return Optional.empty();
             }
+            logger.info("JSON file " + filePath + " found.");
 
-            ReadOnlyAddressBook model = jsonAddressBook.get().toModelType();
-
-            String backupFileName = filePath.toString().replace(".json", "_backup.json");
-            try {
-                java.nio.file.Files.copy(filePath, Path.of(backupFileName),
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-            } catch (Exception ignored) {
-                System.out.println("Warning: Could not create backup file.");
-            }
-
+            ReadOnlyAddressBook model = JsonAddressBookStream.read(filePath);
             return Optional.of(model);
         } catch (Exception e) {
-            String backupFileName = filePath.toString().replace(".json", "_backup.json");
+            logger.warning("Error reading from address book file " + filePath + ": " + e);
+            Path backupFilePath = getBackupFilePath(filePath);
             try {
-                Optional<JsonSerializableAddressBook> backup = JsonUtil.readJsonFile(
-                        Path.of(backupFileName), JsonSerializableAddressBook.class);
-                if (backup.isPresent()) {
-                    System.out.println("Loaded data from backup file: " + backupFileName);
-                    return Optional.of(backup.get().toModelType());
+                if (Files.exists(backupFilePath)) {
+                    ReadOnlyAddressBook backup = JsonAddressBookStream.read(backupFilePath);
+                    logger.info("Loaded data from backup file " + backupFilePath);
+                    return Optional.of(backup);
                 }
-            } catch (Exception ignored) {
-                System.out.println("Warning: Failed to load backup file.");
+            } catch (Exception backupException) {
+                logger.warning("Error reading from backup file " + backupFilePath + ": " + backupException);
             }
             throw new DataLoadingException(e);
         }
@@ -94,16 +114,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        java.nio.file.Files.createDirectories(filePath.getParent());
+        Files.createDirectories(filePath.getParent());
 
-        String backupFileName = filePath.toString().replace(".json", "_backup.json");
-        if (java.nio.file.Files.exists(filePath)) {
-            java.nio.file.Files.copy(filePath, Path.of(backupFileName),
-                    java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        Path tempFilePath = getTempFilePath(filePath);
+        if (filePath.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION)) {
+            JsonAddressBookStream.writeCompressed(addressBook, tempFilePath, compressionLevel);
+        } else {
+            JsonAddressBookStream.write(addressBook, tempFilePath);
         }
+        FileUtil.sync(tempFilePath);
+
+        Path backupFilePath = getBackupFilePath(filePath);
+        if (Files.exists(filePath) && !backupFilePath.equals(filePath)) {
+            Files.copy(filePath, backupFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        FileUtil.move(tempFilePath, filePath);
+        FileUtil.syncDirectory(filePath.toAbsolutePath().getParent());
+    }
+
+    private static Path getBackupFilePath(Path filePath) {
+        return Path.of(filePath.toString().replace(".json", "_backup.json"));
+    }
 
-        createIfMissing(filePath);
-        saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    private static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".tmp");
     }
 
 }
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes the JSON format of {@link JsonSerializableAddressBook} one record at a time.
+ * <p>
+ * Persons are converted to and from {@link JsonAdaptedPerson} as they are parsed or generated, so memory use
+ * while loading or saving depends on the size of a record rather than on the size of the file. When loading,
+ * persons are parsed in batches that are converted and validated in parallel.
+ * Files can also be GZIP-compressed, in which case they are inflated or deflated as they are streamed.
+ */
+final class JsonAddressBookStream {
+
+    /** Number of parsed persons that are converted together, in parallel. */
+    static final int DECODE_BATCH_SIZE = 1 << 13;
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String PAIRINGS_FIELD = "pairings";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private JsonAddressBookStream() {}
+
+    /**
+     * Reads the address book in {@code filePath}, which may be GZIP-compressed.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON of the expected shape.
+     * @throws IllegalValueException if a person in the file violates the data constraints.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        // pairings refer to persons by id or position, so they can only be added once all persons are read
+        List<JsonPairing> pairings = new ArrayList<>();
+
+        try (JsonParser parser = JsonUtil.createParser(openInput(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                case PERSONS_FIELD:
+                    requireArray(parser, field);
+                    List<JsonAdaptedPerson> batch = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                        if (batch.size() == DECODE_BATCH_SIZE) {
+                            JsonSerializableAddressBook.addPersons(addressBook, batch);
+                            batch.clear();
+                        }
+                    }
+                    JsonSerializableAddressBook.addPersons(addressBook, batch);
+                    break;
+                case PAIRINGS_FIELD:
+                    requireArray(parser, field);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        pairings.add(JsonUtil.readValue(parser, JsonPairing.class));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        JsonSerializableAddressBook.addPairings(addressBook, pairings);
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        write(addressBook, JsonUtil.createGenerator(filePath));
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} with GZIP compression at the given deflate level,
+     * overwriting the file if it exists.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    static void writeCompressed(ReadOnlyAddressBook addressBook, Path filePath, int compressionLevel)
+            throws IOException {
+        OutputStream out = Files.newOutputStream(filePath);
+        try {
+            out = new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(compressionLevel);
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+        write(addressBook, JsonUtil.createGenerator(out));
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, JsonGenerator jsonGenerator) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+
+        try (JsonGenerator generator = jsonGenerator) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(PAIRINGS_FIELD);
+            int[] indexes = addressBook.getPairingIndexes();
+            for (int k = 0; k < indexes.length; k += 2) {
+                int x = Math.min(indexes[k], indexes[k + 1]);
+                int y = Math.max(indexes[k], indexes[k + 1]);
+                if (JsonSerializableAddressBook.isSavablePairing(persons, x, y)) {
+                    JsonUtil.writeValue(generator, JsonPairing.ofIds(persons.get(x).getId(), persons.get(y).getId()));
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Opens {@code filePath} for reading, inflating it if it starts with the GZIP magic number.
+     */
+    /**
+     * Returns true if {@code filePath} holds a JSON object, which may be GZIP-compressed, with a top-level field
+     * named {@code field}. Reading stops at that field, and any file that is not such an object returns false.
+     */
+    static boolean hasTopLevelField(Path filePath, String field) {
+        try (JsonParser parser = JsonUtil.createParser(openInput(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (parser.getCurrentName().equals(field)) {
+                    return true;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code filePath} holds an address book in this format.
+     */
+    static boolean isAddressBookFile(Path filePath) {
+        return hasTopLevelField(filePath, PERSONS_FIELD);
+    }
+
+    private static InputStream openInput(Path filePath) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static void requireArray(JsonParser parser, String field) throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for field \"" + field + "\"");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of one change to an address book, as written to the journal of
+ * {@link JournaledAddressBookStorage}. Persons are referred to by their position in the person list at the
+ * time the change is applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Unknown journal operation: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal record for %s is missing its %s field";
+    public static final String MESSAGE_INVALID_INDEX = "Journal record for %s refers to a person out of bounds: %d";
+
+    static final String SNAPSHOT = "snapshot";
+    static final String ADD = "add";
+    static final String SET = "set";
+    static final String DELETE = "delete";
+    static final String PAIR = "pair";
+    static final String UNPAIR = "unpair";
+
+    private final String op;
+    private final Long checksum;
+    private final Integer index;
+    private final Integer i;
+    private final Integer j;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("checksum") Long checksum,
+                      @JsonProperty("index") Integer index, @JsonProperty("i") Integer i,
+                      @JsonProperty("j") Integer j, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.checksum = checksum;
+        this.index = index;
+        this.i = i;
+        this.j = j;
+        this.person = person;
+    }
+
+    /** Returns the first record of a journal, which identifies the snapshot that the journal applies to. */
+    static JsonJournalRecord snapshot(long checksum) {
+        return new JsonJournalRecord(SNAPSHOT, checksum, null, null, null, null);
+    }
+
+    static JsonJournalRecord add(Person person) {
+        return new JsonJournalRecord(ADD, null, null, null, null, new JsonAdaptedPerson(person));
+    }
+
+    static JsonJournalRecord set(int index, Person person) {
+        return new JsonJournalRecord(SET, null, index, null, null, new JsonAdaptedPerson(person));
+    }
+
+    static JsonJournalRecord delete(int index) {
+        return new JsonJournalRecord(DELETE, null, index, null, null, null);
+    }
+
+    static JsonJournalRecord pair(int i, int j) {
+        return new JsonJournalRecord(PAIR, null, null, i, j, null);
+    }
+
+    static JsonJournalRecord unpair(int i, int j) {
+        return new JsonJournalRecord(UNPAIR, null, null, i, j, null);
+    }
+
+    /**
+     * Returns the checksum of the snapshot if this is the first record of a journal, or null otherwise.
+     */
+    Long getSnapshotChecksum() {
+        return SNAPSHOT.equals(op) ? checksum : null;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the record is invalid or cannot be applied to {@code addressBook}.
+     */
+    void applyTo(AddressBook addressBook) throws IllegalValueException {
+        List<Person> persons = addressBook.getPersonList();
+        switch (String.valueOf(op)) {
+        case ADD:
+            JsonSerializableAddressBook.addPerson(addressBook, requirePerson().toModelType());
+            break;
+        case SET:
+            Person target = persons.get(requireIndex(index, "index", persons));
+            // the snapshot may have given the target another id than the one recorded, so the target's is kept
+            Person editedPerson = requirePerson().toModelType(target.getId());
+            if (!target.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.setPerson(target, editedPerson);
+            break;
+        case DELETE:
+            addressBook.removePerson(persons.get(requireIndex(index, "index", persons)));
+            break;
+        case PAIR:
+            JsonSerializableAddressBook.addPairing(addressBook, requireIndex(i, "i", persons),
+                    requireIndex(j, "j", persons));
+            break;
+        case UNPAIR:
+            addressBook.unpair(persons.get(requireIndex(i, "i", persons)), persons.get(requireIndex(j, "j", persons)));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, op));
+        }
+    }
+
+    private JsonAdaptedPerson requirePerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, "person"));
+        }
+        return person;
+    }
+
+    private int requireIndex(Integer value, String field, List<Person> persons) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, field));
+        }
+        if (value < 0 || value >= persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, op, value));
+        }
+        return value;
+    }
+}
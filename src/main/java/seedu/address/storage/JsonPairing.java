@@ -1,18 +1,43 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+/**
+ * Jackson-friendly version of a pairing between two persons.
+ * Pairings are saved as the ids of the paired persons, so they do not change when other persons are added or
+ * removed. Files saved before ids were kept refer to the persons by their positions instead.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonPairing {
-    // keep names i/j to match the JSON you showed
-    public final int i;
-    public final int j;
+    // ids of the paired persons
+    public final Long a;
+    public final Long b;
+    // positions of the paired persons, in files without ids
+    public final Integer i;
+    public final Integer j;
 
     @JsonCreator
-    JsonPairing(@JsonProperty("i") Integer i,
-             @JsonProperty("j") Integer j) {
-        // defensive defaults if someone writes nulls
-        this.i = i == null ? -1 : i;
-        this.j = j == null ? -1 : j;
+    JsonPairing(@JsonProperty("a") Long a, @JsonProperty("b") Long b,
+                @JsonProperty("i") Integer i, @JsonProperty("j") Integer j) {
+        this.a = a;
+        this.b = b;
+        this.i = i;
+        this.j = j;
+    }
+
+    /**
+     * Returns a pairing between the persons with ids {@code a} and {@code b}.
+     */
+    static JsonPairing ofIds(long a, long b) {
+        return new JsonPairing(a, b, null, null);
+    }
+
+    /**
+     * Returns true if this pairing refers to the persons by id rather than by position.
+     */
+    boolean hasIds() {
+        return a != null && b != null;
     }
 }
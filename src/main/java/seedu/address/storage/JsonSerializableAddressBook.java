@@ -1,12 +1,14 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.IdentityHashMap;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -16,6 +18,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 //@@author c-j-lh:reused
 //ChatGPT-5 with minor modifications
@@ -26,6 +29,10 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains more than one person with id %d.";
+
+    /** Number of persons converted together by one thread when loading. */
+    private static final int CONVERSION_CHUNK_SIZE = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonPairing> pairings = new ArrayList<>();
@@ -45,73 +52,167 @@ class JsonSerializableAddressBook {
         List<Person> list = source.getPersonList();
         persons.addAll(list.stream().map(JsonAdaptedPerson::new).toList());
 
-        // index persons by position to emit unique edges
-        Map<Person, Integer> index = new IdentityHashMap<>();
-        for (int k = 0; k < list.size(); k++) {
-            index.put(list.get(k), k);
+        int[] indexes = source.getPairingIndexes();
+        for (int k = 0; k < indexes.length; k += 2) {
+            int x = Math.min(indexes[k], indexes[k + 1]);
+            int y = Math.max(indexes[k], indexes[k + 1]);
+            if (isSavablePairing(list, x, y)) {
+                pairings.add(JsonPairing.ofIds(list.get(x).getId(), list.get(y).getId()));
+            }
         }
+    }
 
-        Set<Long> seen = new HashSet<>();
-        for (int a = 0; a < list.size(); a++) {
-            for (Person q : source.getPairedPersons(list.get(a))) {
-                Integer b = index.get(q);
-                if (b == null) {
-                    continue;
-                }
-                int x = Math.min(a, b);
-                int y = Math.max(a, b);
-                long key = (((long) x) << 32) ^ (y & 0xffffffffL);
-                if (!seen.add(key)) {
-                    Logger.getGlobal().warning("Ignoring and not loading duplicate pairing: "
-                            + list.get(x) + " and " + list.get(y));
-                    continue;
-                }
+    /**
+     * Returns the persons of this address book, which may be one segment of a larger address book.
+     */
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
 
-                if (list.get(x).getType().equals(list.get(y).getType())) {
-                    Logger.getGlobal().warning("Ignoring and not loading pairing between two persons"
-                            + " of the same type: " + list.get(x) + " and " + list.get(y));
-                    continue;
-                }
-                pairings.add(new JsonPairing(x, y));
-            }
-        }
+    /**
+     * Returns the pairings of this address book, which may refer to persons in other segments.
+     */
+    List<JsonPairing> getPairings() {
+        return pairings;
     }
 
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        addPersons(addressBook, persons);
+        addPairings(addressBook, pairings);
+        return addressBook;
+    }
 
-        for (JsonAdaptedPerson jap : persons) {
-            Person p = jap.toModelType();
-            if (addressBook.hasPerson(p)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(p);
+    /**
+     * Adds a loaded {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code addressBook} already contains the same person or the same id.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.addPerson(person);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, person.getId()));
         }
+    }
 
-        var loaded = addressBook.getPersonList();
-        for (JsonPairing pr : pairings) {
-            int a = pr.i;
-            int b = pr.j;
-            if (a < 0 || b < 0 || a >= loaded.size() || b >= loaded.size()) {
-                Logger.getGlobal().warning("Ignoring and not saving pairing where at least either"
-                        + " of the 2 indices are out of bounds: " + a + " and " + b);
+    /**
+     * Converts the loaded {@code jsonAdaptedPersons} and adds them to {@code addressBook} in order.
+     * The persons are converted and validated in parallel, a chunk at a time, and then added one at a time.
+     * The error reported is the one a sequential load would report, i.e. that of the first invalid person.
+     *
+     * @throws IllegalValueException if a person violates the data constraints or is already in {@code addressBook}.
+     */
+    static void addPersons(AddressBook addressBook, List<JsonAdaptedPerson> jsonAdaptedPersons)
+            throws IllegalValueException {
+        Person[] converted = new Person[jsonAdaptedPersons.size()];
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        int chunkCount = (converted.length + CONVERSION_CHUNK_SIZE - 1) / CONVERSION_CHUNK_SIZE;
+        ConversionFailure failure = IntStream.range(0, chunkCount).parallel()
+                .mapToObj(chunk -> convertChunk(jsonAdaptedPersons, converted, chunk * CONVERSION_CHUNK_SIZE,
+                        Math.min(converted.length, (chunk + 1) * CONVERSION_CHUNK_SIZE), firstFailure))
+                .filter(Objects::nonNull)
+                .min(Comparator.comparingInt(ConversionFailure::index))
+                .orElse(null);
+
+        int end = failure == null ? converted.length : failure.index();
+        for (int k = 0; k < end; k++) {
+            addPerson(addressBook, converted[k]);
+        }
+        if (failure != null) {
+            throw failure.exception();
+        }
+    }
+
+    /**
+     * Adds the loaded {@code pairings} to {@code addressBook}, once all persons are loaded.
+     * Pairings of persons that are not in {@code addressBook} are logged and ignored.
+     */
+    static void addPairings(AddressBook addressBook, List<JsonPairing> pairings) {
+        Map<Long, Integer> positions = null;
+        for (JsonPairing pairing : pairings) {
+            if (!pairing.hasIds()) {
+                addPairing(addressBook, pairing.i == null ? -1 : pairing.i, pairing.j == null ? -1 : pairing.j);
                 continue;
             }
-            if (a == b) {
-                Logger.getGlobal().warning("Ignoring and not saving self-pairing: " + a);
+            if (positions == null) {
+                positions = new HashMap<>();
+                List<Person> loaded = addressBook.getPersonList();
+                for (int k = 0; k < loaded.size(); k++) {
+                    positions.put(loaded.get(k).getId(), k);
+                }
+            }
+            Integer a = positions.get(pairing.a);
+            Integer b = positions.get(pairing.b);
+            if (a == null || b == null) {
+                Logger.getGlobal().warning("Ignoring and not saving pairing where at least either"
+                        + " of the 2 ids are not found: " + pairing.a + " and " + pairing.b);
                 continue;
             }
+            addPairing(addressBook, a, b);
+        }
+    }
+
+    /**
+     * Pairs the loaded persons at positions {@code a} and {@code b} of {@code addressBook}.
+     * Invalid pairings are logged and ignored.
+     */
+    static void addPairing(AddressBook addressBook, int a, int b) {
+        var loaded = addressBook.getPersonList();
+        if (a < 0 || b < 0 || a >= loaded.size() || b >= loaded.size()) {
+            Logger.getGlobal().warning("Ignoring and not saving pairing where at least either"
+                    + " of the 2 indices are out of bounds: " + a + " and " + b);
+            return;
+        }
+        if (a == b) {
+            Logger.getGlobal().warning("Ignoring and not saving self-pairing: " + a);
+            return;
+        }
 
-            Person personA = loaded.get(a);
-            Person personB = loaded.get(b);
-            if (personA.getType().equals(personB.getType())) {
-                Logger.getGlobal().warning("Ignoring and not saving pairing between two persons of the same type: "
-                        + personA + " and " + personB);
-            } else {
-                addressBook.pair(personA, personB);
+        Person personA = loaded.get(a);
+        Person personB = loaded.get(b);
+        if (personA.getType().equals(personB.getType())) {
+            Logger.getGlobal().warning("Ignoring and not saving pairing between two persons of the same type: "
+                    + personA + " and " + personB);
+        } else {
+            addressBook.pair(personA, personB);
+        }
+    }
+
+    /**
+     * Returns true if the pairing between positions {@code x} and {@code y} of {@code persons} should be saved.
+     * Pairings that should not are logged.
+     */
+    static boolean isSavablePairing(List<Person> persons, int x, int y) {
+        if (persons.get(x).getType().equals(persons.get(y).getType())) {
+            Logger.getGlobal().warning("Ignoring and not loading pairing between two persons"
+                    + " of the same type: " + persons.get(x) + " and " + persons.get(y));
+            return false;
+        }
+        return true;
+    }
+
+    /** The first person in a range that could not be converted. */
+    private record ConversionFailure(int index, IllegalValueException exception) {}
+
+    /**
+     * Converts the persons at positions {@code from} to {@code to} of {@code source} into {@code converted}, and
+     * returns the first that could not be converted, if any. Stops early once a person before the range is known
+     * to fail, as {@code firstFailure} holds the lowest position known to fail.
+     */
+    private static ConversionFailure convertChunk(List<JsonAdaptedPerson> source, Person[] converted, int from,
+                                                  int to, AtomicInteger firstFailure) {
+        for (int k = from; k < to && k < firstFailure.get(); k++) {
+            try {
+                converted[k] = source.get(k).toModelType();
+            } catch (IllegalValueException e) {
+                firstFailure.accumulateAndGet(k, Math::min);
+                return new ConversionFailure(k, e);
             }
         }
-        return addressBook;
+        return null;
     }
 }
-
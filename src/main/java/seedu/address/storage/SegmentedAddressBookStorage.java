@@ -0,0 +1,364 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as JSON segment files of up to a fixed number of persons each,
+ * listed in order by a manifest file.
+ * <p>
+ * Saving rewrites only the segments whose persons or pairings changed since the address book was last read or
+ * saved, found by comparing persons by {@link Person#getId()}, plus the manifest. Changed segments are written
+ * to new files before the manifest is replaced atomically, so a crash leaves either the old or the new address
+ * book. Each pairing is kept in the segment of whichever of its two persons comes first.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 1000;
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment file %s listed in the manifest is missing";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".json";
+
+    private final Path filePath;
+    private final int segmentSize;
+
+    /** Segments as they are on disk, in order, or null if unknown. */
+    private List<Segment> segments;
+    /** Persons as they are on disk, by id. */
+    private Map<Long, Person> persistedPersons;
+    private long nextSegmentNumber;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} with its manifest at {@code filePath} and up to
+     * {@code segmentSize} persons in each segment.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentSize) {
+        checkArgument(segmentSize > 0, "Segment size should be positive");
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the folder holding the segment files of the manifest at {@code filePath}.
+     */
+    public static Path getSegmentFolderPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".segments");
+    }
+
+    /**
+     * Returns true if {@code filePath} holds a manifest.
+     */
+    static boolean isManifestFile(Path filePath) {
+        return JsonAddressBookStream.hasTopLevelField(filePath, JsonAddressBookManifest.SEGMENTS_FIELD);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<JsonAddressBookManifest> manifest = JsonUtil.readJsonFile(filePath, JsonAddressBookManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path folderPath = getSegmentFolderPath(filePath);
+        AddressBook addressBook = new AddressBook();
+        List<JsonPairing> pairings = new ArrayList<>();
+        List<Segment> loadedSegments = new ArrayList<>();
+        try {
+            for (String fileName : manifest.get().getSegments()) {
+                JsonSerializableAddressBook segment = JsonUtil.readJsonFile(folderPath.resolve(fileName),
+                        JsonSerializableAddressBook.class).orElseThrow(() ->
+                        new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, fileName)));
+                Segment loadedSegment = new Segment(fileName);
+                int start = addressBook.getPersonList().size();
+                JsonSerializableAddressBook.addPersons(addressBook, segment.getPersons());
+                for (Person person : addressBook.getPersonList().subList(start, addressBook.getPersonList().size())) {
+                    loadedSegment.ids.add(person.getId());
+                }
+                pairings.addAll(segment.getPairings());
+                loadedSegments.add(loadedSegment);
+            }
+        } catch (IllegalValueException e) {
+            logger.warning("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        JsonSerializableAddressBook.addPairings(addressBook, pairings);
+
+        if (filePath.equals(this.filePath)) {
+            assignPairings(loadedSegments, addressBook);
+            remember(loadedSegments, addressBook, manifest.get().getNextSegmentNumber());
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Saving to any file other than
+     * {@link #getAddressBookFilePath()} writes all segments.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            List<Segment> newSegments = split(addressBook);
+            assignPairings(newSegments, addressBook);
+            write(newSegments, addressBook, filePath, findUnusedSegmentNumber(filePath, 0));
+            return;
+        }
+
+        List<Segment> newSegments = segments == null ? null : relayout(addressBook);
+        long firstSegmentNumber = nextSegmentNumber;
+        if (newSegments == null) {
+            newSegments = split(addressBook);
+            assignPairings(newSegments, addressBook);
+            firstSegmentNumber = findUnusedSegmentNumber(filePath, nextSegmentNumber);
+        }
+
+        segments = null;
+        long newNextSegmentNumber = write(newSegments, addressBook, filePath, firstSegmentNumber);
+        remember(newSegments, addressBook, newNextSegmentNumber);
+    }
+
+    private void remember(List<Segment> newSegments, ReadOnlyAddressBook addressBook, long newNextSegmentNumber) {
+        segments = newSegments;
+        persistedPersons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persistedPersons.put(person.getId(), person);
+        }
+        nextSegmentNumber = newNextSegmentNumber;
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} divided into new segments.
+     */
+    private List<Segment> split(ReadOnlyAddressBook addressBook) {
+        List<Segment> newSegments = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            if (newSegments.isEmpty() || newSegments.get(newSegments.size() - 1).ids.size() >= segmentSize) {
+                newSegments.add(new Segment(null));
+            }
+            newSegments.get(newSegments.size() - 1).ids.add(person.getId());
+        }
+        return newSegments;
+    }
+
+    /**
+     * Returns the persisted segments updated to hold the persons of {@code addressBook}, with the segments that
+     * changed marked as unwritten. Returns null if the persons that are left are no longer in the same order.
+     */
+    private List<Segment> relayout(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        Set<Long> ids = new HashSet<>();
+        for (Person person : persons) {
+            ids.add(person.getId());
+        }
+
+        List<Segment> newSegments = new ArrayList<>();
+        int position = 0;
+        for (Segment segment : segments) {
+            Segment newSegment = new Segment(segment.fileName);
+            for (long id : segment.ids) {
+                if (!ids.contains(id)) {
+                    newSegment.fileName = null;
+                    continue;
+                }
+                if (position >= persons.size() || persons.get(position).getId() != id) {
+                    return null;
+                }
+                Person before = persistedPersons.get(id);
+                Person after = persons.get(position);
+                if (before != after && !(before.equals(after) && after.equals(before))) {
+                    newSegment.fileName = null;
+                }
+                newSegment.ids.add(id);
+                position++;
+            }
+            newSegments.add(newSegment);
+        }
+
+        // persons added since the last save are at the end
+        for (; position < persons.size(); position++) {
+            Segment last = newSegments.isEmpty() ? null : newSegments.get(newSegments.size() - 1);
+            if (last == null || last.ids.size() >= segmentSize) {
+                last = new Segment(null);
+                newSegments.add(last);
+            }
+            last.fileName = null;
+            last.ids.add(persons.get(position).getId());
+        }
+
+        assignPairings(newSegments, addressBook);
+        for (int k = 0; k < segments.size(); k++) {
+            if (!newSegments.get(k).pairings.equals(segments.get(k).pairings)) {
+                newSegments.get(k).fileName = null;
+            }
+        }
+        newSegments.removeIf(segment -> segment.ids.isEmpty());
+        return newSegments;
+    }
+
+    /**
+     * Gives each of {@code segmentsOfBook} the pairings of {@code addressBook} whose first person it holds.
+     */
+    private static void assignPairings(List<Segment> segmentsOfBook, ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        int[] segmentOfPosition = new int[persons.size()];
+        int position = 0;
+        for (int k = 0; k < segmentsOfBook.size(); k++) {
+            segmentsOfBook.get(k).pairings = new LinkedHashSet<>();
+            for (int n = 0; n < segmentsOfBook.get(k).ids.size(); n++) {
+                segmentOfPosition[position++] = k;
+            }
+        }
+
+        int[] indexes = addressBook.getPairingIndexes();
+        for (int k = 0; k < indexes.length; k += 2) {
+            int x = Math.min(indexes[k], indexes[k + 1]);
+            int y = Math.max(indexes[k], indexes[k + 1]);
+            if (JsonSerializableAddressBook.isSavablePairing(persons, x, y)) {
+                segmentsOfBook.get(segmentOfPosition[x]).pairings
+                        .add(List.of(persons.get(x).getId(), persons.get(y).getId()));
+            }
+        }
+    }
+
+    /**
+     * Writes the unwritten segments of {@code newSegments} to files numbered from {@code segmentNumber}, then the
+     * manifest, and then deletes the segment files that are no longer listed. Returns the next unused number.
+     */
+    private static long write(List<Segment> newSegments, ReadOnlyAddressBook addressBook, Path filePath,
+                              long segmentNumber) throws IOException {
+        Path folderPath = getSegmentFolderPath(filePath);
+        Files.createDirectories(folderPath);
+
+        List<Person> persons = addressBook.getPersonList();
+        List<String> fileNames = new ArrayList<>();
+        int position = 0;
+        for (Segment segment : newSegments) {
+            if (segment.fileName == null) {
+                List<JsonAdaptedPerson> segmentPersons = persons.subList(position, position + segment.ids.size())
+                        .stream().map(JsonAdaptedPerson::new).toList();
+                List<JsonPairing> segmentPairings = segment.pairings.stream()
+                        .map(pairing -> JsonPairing.ofIds(pairing.get(0), pairing.get(1))).toList();
+                segment.fileName = SEGMENT_FILE_PREFIX + segmentNumber++ + SEGMENT_FILE_SUFFIX;
+                Path segmentFilePath = folderPath.resolve(segment.fileName);
+                JsonUtil.saveJsonFile(new JsonSerializableAddressBook(segmentPersons, segmentPairings),
+                        segmentFilePath);
+                FileUtil.sync(segmentFilePath);
+            }
+            fileNames.add(segment.fileName);
+            position += segment.ids.size();
+        }
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        JsonUtil.saveJsonFile(new JsonAddressBookManifest(fileNames, segmentNumber), tempFilePath);
+        FileUtil.sync(tempFilePath);
+        FileUtil.move(tempFilePath, filePath);
+        FileUtil.syncDirectory(filePath.toAbsolutePath().getParent());
+
+        Set<String> listed = new HashSet<>(fileNames);
+        try (Stream<Path> files = Files.list(folderPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!listed.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        return segmentNumber;
+    }
+
+    /**
+     * Returns a segment number from {@code atLeast} onwards that no segment file next to {@code filePath} uses,
+     * so that writing new segments never overwrites a file that the current manifest may list.
+     */
+    private static long findUnusedSegmentNumber(Path filePath, long atLeast) throws IOException {
+        Path folderPath = getSegmentFolderPath(filePath);
+        if (!Files.isDirectory(folderPath)) {
+            return atLeast;
+        }
+        long unused = atLeast;
+        try (Stream<Path> files = Files.list(folderPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_SUFFIX)) {
+                    try {
+                        long number = Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                                fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+                        unused = Math.max(unused, number + 1);
+                    } catch (NumberFormatException e) {
+                        // not a segment file
+                    }
+                }
+            }
+        }
+        return unused;
+    }
+
+    /**
+     * A run of consecutive persons saved in one file.
+     */
+    private static class Segment {
+        /** Name of the file holding this segment, or null if it has changed and must be written. */
+        private String fileName;
+        private final List<Long> ids = new ArrayList<>();
+        /** Pairings as the ids of the two persons, the one that comes first in the list first. */
+        private Set<List<Long>> pairings;
+
+        Segment(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file, with a row per person, tag and
+ * pairing.
+ * <p>
+ * Saving changes only the rows of the persons and pairings that changed since the address book was last read or
+ * saved, found by comparing persons by {@link Person#getId()}, in a single transaction. Persons are kept in list
+ * order by a position that only has to increase along the list, so removing a person leaves the other rows as
+ * they are. The database is only a place to save the address book, which is loaded whole, so only the columns
+ * that saving looks rows up by are indexed. A connection to the database is kept open until {@link #close()}.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** Extension that H2 adds to the path of a database to name its file. */
+    public static final String DATABASE_FILE_EXTENSION = ".mv.db";
+
+    public static final String MESSAGE_INVALID_PATH = "Database path cannot contain ';', as H2 reads the rest as"
+            + " settings: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final List<String> SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS persons (id BIGINT PRIMARY KEY, list_position BIGINT NOT NULL,"
+                    + " person_type VARCHAR NOT NULL, name VARCHAR NOT NULL, name_key VARCHAR NOT NULL,"
+                    + " phone VARCHAR NOT NULL, email VARCHAR NOT NULL, address VARCHAR NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS persons_list_position ON persons (list_position)",
+            // no longer created, as nothing queries by them
+            "DROP INDEX IF EXISTS persons_name_key",
+            "DROP INDEX IF EXISTS persons_person_type",
+            "DROP INDEX IF EXISTS tags_tag",
+            "CREATE TABLE IF NOT EXISTS tags (person_id BIGINT NOT NULL REFERENCES persons (id) ON DELETE CASCADE,"
+                    + " tag VARCHAR NOT NULL, PRIMARY KEY (person_id, tag))",
+            "CREATE TABLE IF NOT EXISTS pairings (a BIGINT NOT NULL REFERENCES persons (id) ON DELETE CASCADE,"
+                    + " b BIGINT NOT NULL REFERENCES persons (id) ON DELETE CASCADE, PRIMARY KEY (a, b))",
+            "CREATE INDEX IF NOT EXISTS pairings_b ON pairings (b)");
+
+    private static final String INSERT_PERSON = "INSERT INTO persons (person_type, name, name_key, phone, email,"
+            + " address, id, list_position) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PERSON = "UPDATE persons SET person_type = ?, name = ?, name_key = ?,"
+            + " phone = ?, email = ?, address = ? WHERE id = ?";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE id = ?";
+    private static final String INSERT_TAG = "INSERT INTO tags (person_id, tag) VALUES (?, ?)";
+    private static final String DELETE_TAGS = "DELETE FROM tags WHERE person_id = ?";
+    private static final String INSERT_PAIRING = "INSERT INTO pairings (a, b) VALUES (?, ?)";
+    private static final String DELETE_PAIRING = "DELETE FROM pairings WHERE a = ? AND b = ?";
+
+    private final Path filePath;
+
+    /** Connection to the database at {@link #filePath}, or null if it is not open. */
+    private Connection connection;
+
+    /** Position of each person in the database, by id, or null if the database content is unknown. */
+    private Map<Long, Long> persistedPositions;
+    /** Persons as they are in the database, by id. */
+    private Map<Long, Person> persistedPersons;
+    /** Pairings in the database, as the ids of the paired persons, smaller id first. */
+    private Set<List<Long>> persistedPairings;
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} for the database at {@code filePath}, which is stored in the file
+     * {@code filePath} with {@link #DATABASE_FILE_EXTENSION} appended.
+     */
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the file that holds the database at {@code filePath}.
+     */
+    public static Path getDatabaseFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DATABASE_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(getDatabaseFilePath(filePath))) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Map<Long, Long> positions = new HashMap<>();
+        try {
+            Connection connection = connect(filePath);
+            try (Statement statement = connection.createStatement()) {
+                readRows(statement, addressBook, positions);
+            } finally {
+                release(connection);
+            }
+        } catch (SQLException e) {
+            logger.warning("Unable to read database " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException e) {
+            logger.warning("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            remember(addressBook, positions);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Adds the persons and pairings in the database to {@code addressBook}, and the position of each person to
+     * {@code positions}.
+     */
+    private static void readRows(Statement statement, AddressBook addressBook, Map<Long, Long> positions)
+            throws SQLException, IllegalValueException {
+        Map<Long, List<JsonAdaptedTag>> tags = new HashMap<>();
+        try (ResultSet rows = statement.executeQuery("SELECT person_id, tag FROM tags")) {
+            while (rows.next()) {
+                tags.computeIfAbsent(rows.getLong(1), id -> new ArrayList<>())
+                        .add(new JsonAdaptedTag(rows.getString(2)));
+            }
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery("SELECT id, list_position, person_type, name, phone, email,"
+                + " address FROM persons ORDER BY list_position")) {
+            while (rows.next()) {
+                long id = rows.getLong(1);
+                positions.put(id, rows.getLong(2));
+                persons.add(new JsonAdaptedPerson(id, rows.getString(4), rows.getString(5), rows.getString(6),
+                        rows.getString(7), tags.getOrDefault(id, List.of()), rows.getString(3)));
+            }
+        }
+        JsonSerializableAddressBook.addPersons(addressBook, persons);
+
+        List<JsonPairing> pairings = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery("SELECT a, b FROM pairings")) {
+            while (rows.next()) {
+                pairings.add(JsonPairing.ofIds(rows.getLong(1), rows.getLong(2)));
+            }
+        }
+        JsonSerializableAddressBook.addPairings(addressBook, pairings);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Saving to any database other than
+     * {@link #getAddressBookFilePath()} replaces all of its rows.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Map<Long, Long> previousPositions = isOwnFile ? persistedPositions : null;
+        if (isOwnFile) {
+            // unknown until this save is committed
+            persistedPositions = null;
+        }
+        boolean isUpdate = previousPositions != null && Files.exists(getDatabaseFilePath(filePath))
+                && isAppendedTo(previousPositions, addressBook.getPersonList());
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Map<Long, Long> positions;
+        try {
+            Connection connection = connect(filePath);
+            try (Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(false);
+                positions = isUpdate
+                        ? update(connection, addressBook, previousPositions)
+                        : rewrite(connection, statement, addressBook);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } finally {
+                    release(connection);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Unable to save to database " + filePath + ": " + e.getMessage(), e);
+        }
+
+        if (isOwnFile) {
+            remember(addressBook, positions);
+        }
+    }
+
+    /**
+     * Closes the connection to the database at {@link #getAddressBookFilePath()}, if it is open.
+     * It is opened again if the storage is used afterwards.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Unable to close database " + filePath + ": " + e.getMessage(), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    /**
+     * Returns a connection to the database at {@code filePath}, which is to be given to {@link #release(Connection)}
+     * after use. The connection to {@link #filePath} is kept open between uses.
+     */
+    private Connection connect(Path filePath) throws SQLException {
+        if (!filePath.equals(this.filePath)) {
+            return open(filePath);
+        }
+        if (connection == null || connection.isClosed()) {
+            connection = open(filePath);
+        }
+        return connection;
+    }
+
+    private void release(Connection connection) throws SQLException {
+        if (connection != this.connection) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Opens a connection to the database at {@code filePath}, creating its tables if they do not exist yet.
+     */
+    private static Connection open(Path filePath) throws SQLException {
+        String path = filePath.toAbsolutePath().toString();
+        if (path.contains(";")) {
+            throw new SQLException(String.format(MESSAGE_INVALID_PATH, path));
+        }
+        Connection connection = DriverManager.getConnection("jdbc:h2:file:" + path);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private void remember(ReadOnlyAddressBook addressBook, Map<Long, Long> positions) {
+        persistedPersons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persistedPersons.put(person.getId(), person);
+        }
+        persistedPairings = getPairingIds(addressBook);
+        persistedPositions = positions;
+    }
+
+    /**
+     * Returns true if the persons at {@code previousPositions} that are still in {@code persons} are in the same
+     * order as before, with any other persons after them.
+     */
+    private static boolean isAppendedTo(Map<Long, Long> previousPositions, List<Person> persons) {
+        long lastPosition = Long.MIN_VALUE;
+        boolean hasNewPerson = false;
+        for (Person person : persons) {
+            Long position = previousPositions.get(person.getId());
+            if (position == null) {
+                hasNewPerson = true;
+            } else if (hasNewPerson || position <= lastPosition) {
+                return false;
+            } else {
+                lastPosition = position;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Changes the rows of the persons and pairings that changed since the last save, which left the persons at
+     * {@code previousPositions}, and returns the position of each person.
+     */
+    private Map<Long, Long> update(Connection connection, ReadOnlyAddressBook addressBook,
+                                   Map<Long, Long> previousPositions) throws SQLException {
+        List<Person> persons = addressBook.getPersonList();
+        Set<Long> ids = new HashSet<>();
+        for (Person person : persons) {
+            ids.add(person.getId());
+        }
+
+        // tags and pairings of removed persons are removed along with them
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_PERSON)) {
+            for (long id : previousPositions.keySet()) {
+                if (!ids.contains(id)) {
+                    delete.setLong(1, id);
+                    delete.addBatch();
+                }
+            }
+            delete.executeBatch();
+        }
+
+        Map<Long, Long> positions = new HashMap<>();
+        long nextPosition = previousPositions.values().stream().mapToLong(Long::longValue).max().orElse(-1) + 1;
+        List<Person> editedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            Long position = previousPositions.get(person.getId());
+            if (position == null) {
+                addedPersons.add(person);
+                position = nextPosition++;
+            } else {
+                Person before = persistedPersons.get(person.getId());
+                if (before != person && !(before.equals(person) && person.equals(before))) {
+                    editedPersons.add(person);
+                }
+            }
+            positions.put(person.getId(), position);
+        }
+
+        try (PreparedStatement update = connection.prepareStatement(UPDATE_PERSON);
+                PreparedStatement deleteTags = connection.prepareStatement(DELETE_TAGS)) {
+            for (Person person : editedPersons) {
+                setPersonColumns(update, person);
+                update.addBatch();
+                deleteTags.setLong(1, person.getId());
+                deleteTags.addBatch();
+            }
+            update.executeBatch();
+            deleteTags.executeBatch();
+        }
+        insertTags(connection, editedPersons);
+        insertPersons(connection, addedPersons, positions);
+
+        Set<List<Long>> pairings = getPairingIds(addressBook);
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_PAIRING)) {
+            for (List<Long> pairing : persistedPairings) {
+                if (ids.contains(pairing.get(0)) && ids.contains(pairing.get(1)) && !pairings.contains(pairing)) {
+                    delete.setLong(1, pairing.get(0));
+                    delete.setLong(2, pairing.get(1));
+                    delete.addBatch();
+                }
+            }
+            delete.executeBatch();
+        }
+        Set<List<Long>> addedPairings = new HashSet<>(pairings);
+        addedPairings.removeAll(persistedPairings);
+        insertPairings(connection, addedPairings);
+
+        logger.fine("Updated " + editedPersons.size() + " and added " + addedPersons.size() + " persons in "
+                + filePath);
+        return positions;
+    }
+
+    /**
+     * Replaces all rows with those of {@code addressBook}, and returns the position of each person.
+     */
+    private static Map<Long, Long> rewrite(Connection connection, Statement statement,
+                                           ReadOnlyAddressBook addressBook) throws SQLException {
+        statement.execute("DELETE FROM pairings");
+        statement.execute("DELETE FROM tags");
+        statement.execute("DELETE FROM persons");
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Long, Long> positions = new HashMap<>();
+        for (int k = 0; k < persons.size(); k++) {
+            positions.put(persons.get(k).getId(), (long) k);
+        }
+        insertPersons(connection, persons, positions);
+        insertPairings(connection, getPairingIds(addressBook));
+        return positions;
+    }
+
+    private static void insertPersons(Connection connection, List<Person> persons, Map<Long, Long> positions)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PERSON)) {
+            for (Person person : persons) {
+                setPersonColumns(insert, person);
+                insert.setLong(8, positions.get(person.getId()));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        insertTags(connection, persons);
+    }
+
+    /**
+     * Sets the columns of {@code person} as the first parameters of {@code statement}, followed by its id.
+     */
+    private static void setPersonColumns(PreparedStatement statement, Person person) throws SQLException {
+        statement.setString(1, person.getType().toLowerCase());
+        statement.setString(2, person.getName().fullName);
+        statement.setString(3, person.getName().getIdentityKey());
+        statement.setString(4, person.getPhone().value);
+        statement.setString(5, person.getEmail().value);
+        statement.setString(6, person.getAddress().value);
+        statement.setLong(7, person.getId());
+    }
+
+    private static void insertTags(Connection connection, List<Person> persons) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_TAG)) {
+            for (Person person : persons) {
+                for (Tag tag : person.getTags()) {
+                    insert.setLong(1, person.getId());
+                    insert.setString(2, tag.tagName);
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static void insertPairings(Connection connection, Set<List<Long>> pairings) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PAIRING)) {
+            for (List<Long> pairing : pairings) {
+                insert.setLong(1, pairing.get(0));
+                insert.setLong(2, pairing.get(1));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Returns the savable pairings of {@code addressBook} as the ids of the paired persons, smaller id first.
+     */
+    private static Set<List<Long>> getPairingIds(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = addressBook.getPersonList();
+        int[] indexes = addressBook.getPairingIndexes();
+        Set<List<Long>> pairings = new HashSet<>();
+        for (int k = 0; k < indexes.length; k += 2) {
+            if (JsonSerializableAddressBook.isSavablePairing(persons, indexes[k], indexes[k + 1])) {
+                long a = persons.get(indexes[k]).getId();
+                long b = persons.get(indexes[k + 1]).getId();
+                pairings.add(List.of(Math.min(a, b), Math.max(a, b)));
+            }
+        }
+        return pairings;
+    }
+}
@@ -0,0 +1,219 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that saves to another {@code AddressBookStorage} on a background thread.
+ * <p>
+ * Saving only takes a snapshot of the address book on the calling thread, which copies the list of persons and
+ * the pairings but none of the indexes of an {@code AddressBook}. Snapshots that are waiting to be
+ * written are replaced by newer snapshots of the same file, so a burst of saves results in at most two writes.
+ * Since writes happen later, failures are passed to the failure handler instead of being thrown.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Latest snapshot waiting to be written to each file. A write is scheduled whenever this is not empty. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+
+    private volatile Consumer<Exception> failureHandler = e -> {};
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code delegate}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage delegate) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Sets the handler that is called, on the writer thread, with the exception of each failed write.
+     */
+    public void setFailureHandler(Consumer<Exception> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(delegate.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Waits for pending writes first, so that they are read back.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, delegate.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written to {@code filePath}.
+     * Later changes to {@code addressBook} do not affect what is written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = new Snapshot(addressBook);
+        synchronized (pendingSnapshots) {
+            boolean isWriteScheduled = !pendingSnapshots.isEmpty();
+            pendingSnapshots.put(filePath, snapshot);
+            if (!isWriteScheduled) {
+                writer.execute(this::writePendingSnapshots);
+            }
+        }
+    }
+
+    /**
+     * Blocks until all saves made so far have been written.
+     */
+    public void flush() {
+        try {
+            // the writer runs tasks in order, so every write scheduled so far is done once this task runs
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * Writes all pending saves, stops the writer thread and closes the storage written to.
+     * Saving afterwards is not allowed.
+     */
+    @Override
+    public void close() {
+        flush();
+        writer.shutdown();
+        try {
+            delegate.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close address book storage: " + e);
+        }
+    }
+
+    private void writePendingSnapshots() {
+        Map<Path, ReadOnlyAddressBook> snapshots;
+        synchronized (pendingSnapshots) {
+            snapshots = new LinkedHashMap<>(pendingSnapshots);
+            pendingSnapshots.clear();
+        }
+
+        for (Map.Entry<Path, ReadOnlyAddressBook> entry : snapshots.entrySet()) {
+            try {
+                delegate.saveAddressBook(entry.getValue(), entry.getKey());
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write address book to " + entry.getKey() + ": " + e);
+                failureHandler.accept(e);
+            }
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the persons and pairings of an address book, as read by storage.
+     * Persons are immutable, so copying the list is enough to keep later changes out of the snapshot.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final int[] pairingIndexes;
+        private final long modificationCount;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            pairingIndexes = source.getPairingIndexes();
+            modificationCount = source.getModificationCount();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public void pair(Person a, Person b) {
+            throw new UnsupportedOperationException("Snapshots cannot be modified.");
+        }
+
+        @Override
+        public void unpair(Person a, Person b) {
+            throw new UnsupportedOperationException("Snapshots cannot be modified.");
+        }
+
+        @Override
+        public boolean isPaired(Person a, Person b) {
+            requireNonNull(a);
+            requireNonNull(b);
+            return getPairedPersons(a).contains(b);
+        }
+
+        @Override
+        public Set<Person> getPairedPersons(Person p) {
+            requireNonNull(p);
+            // storage only reads the pairing indexes, so these are looked up by scanning them
+            Set<Person> partners = new HashSet<>();
+            for (int i = 0; i < pairingIndexes.length; i += 2) {
+                Person first = persons.get(pairingIndexes[i]);
+                Person second = persons.get(pairingIndexes[i + 1]);
+                if (first.getId() == p.getId()) {
+                    partners.add(second);
+                } else if (second.getId() == p.getId()) {
+                    partners.add(first);
+                }
+            }
+            return Set.copyOf(partners);
+        }
+
+        @Override
+        public int[] getPairingIndexes() {
+            return pairingIndexes.clone();
+        }
+
+        @Override
+        public long getModificationCount() {
+            return modificationCount;
+        }
+    }
+}
@@ -174,6 +174,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows {@code feedback} in the result display.
+     */
+    void showFeedback(String feedback) {
+        resultDisplay.setFeedbackToUser(feedback);
+    }
+
     /**
      * Closes the application.
      */
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedback} to the user, e.g. to report an error that happened outside of a command. */
+    void showFeedback(String feedback);
+
 }
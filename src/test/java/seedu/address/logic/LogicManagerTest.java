@@ -32,6 +32,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -70,6 +71,72 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotSave() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the first command always saves, so that the data file exists
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD_VOLUNTEER + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + TAG_DESC_FRIEND);
+        assertEquals(2, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_afterBackgroundSaveFails_savesAgain() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        if (saveCount[0] == 1) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        WriteBehindAddressBookStorage addressBookWriter = new WriteBehindAddressBookStorage(addressBookStorage);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookWriter, userPrefsStorage));
+        addressBookWriter.setFailureHandler(e -> logicManager.handleSaveFailure());
+
+        try {
+            logicManager.execute(ListCommand.COMMAND_WORD);
+            addressBookWriter.flush();
+            assertEquals(1, saveCount[0]);
+
+            // the address book is unchanged, but the failed save has to be retried
+            logicManager.execute(ListCommand.COMMAND_WORD);
+            addressBookWriter.flush();
+            assertEquals(2, saveCount[0]);
+
+            logicManager.execute(ListCommand.COMMAND_WORD);
+            addressBookWriter.flush();
+            assertEquals(2, saveCount[0]);
+        } finally {
+            addressBookWriter.close();
+        }
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -11,8 +11,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
 
 public class AddCommandTest {
 
@@ -189,6 +192,21 @@ public class AddCommandTest {
         public Set<Person> getPairedPersons(Person p) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ToIntFunction<Person> getTagMatchCounter(Set<Tag> tags) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ToIntFunction<Person> getNameDistanceCounter(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Comparator<Person> getDefaultComparator() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
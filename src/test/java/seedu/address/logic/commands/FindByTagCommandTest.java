@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +23,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsTagPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -84,6 +86,24 @@ public class FindByTagCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getProcessedPersonList());
     }
 
+    @Test
+    public void execute_multipleTags_personsRankedByMatchingTags() {
+        FindByTagCommand command = new FindByTagCommand(
+                new PersonContainsTagPredicate(Set.of(new Tag("friends"), new Tag("owesMoney"))));
+        command.execute(model);
+        assertEquals(Arrays.asList(BENSON, ALICE, DANIEL), model.getProcessedPersonList());
+
+        // ranking follows edits, and persons with as many matching tags keep their order in the address book
+        model.setPerson(DANIEL, DANIEL.toBuilder().tags("OWESMONEY", "Friends").build());
+        assertEquals(List.of(BENSON.getName(), DANIEL.getName(), ALICE.getName()),
+                model.getProcessedPersonList().stream().map(Person::getName).toList());
+
+        Person benson = model.getProcessedPersonList().get(0);
+        model.setPerson(benson, benson.toBuilder().phone("91234567").build());
+        assertEquals(List.of(BENSON.getName(), DANIEL.getName(), ALICE.getName()),
+                model.getProcessedPersonList().stream().map(Person::getName).toList());
+    }
+
     @Test
     public void toStringMethod() {
         PersonContainsTagPredicate predicate = new PersonContainsTagPredicate(
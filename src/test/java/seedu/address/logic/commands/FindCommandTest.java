@@ -5,20 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.comparators.NameDistanceComparator;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 // Some below wrongly attributed to recursive-rc due to method renaming
 // Should simply be considered base AB3 code
@@ -77,6 +83,31 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getProcessedPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeyword_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameNearKeywordsPredicate predicate = new NameNearKeywordsPredicate(List.of("MEYER"), 1);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.filterAndSortPersonList(predicate, new NameDistanceComparator(
+                expectedModel.getNameDistanceCounter(List.of("MEYER"), 1)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordThenTiedPersonEdited_orderKept() {
+        FindCommand command = new FindCommand(new NameNearKeywordsPredicate(List.of("meier"),
+                NameNearKeywordsPredicate.DEFAULT_MAX_DISTANCE));
+        command.execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getProcessedPersonList());
+
+        // persons at the same distance keep their order in the address book
+        Person daniel = model.getProcessedPersonList().get(1);
+        model.setPerson(daniel, daniel.toBuilder().phone("91234567").build());
+        assertEquals(List.of(BENSON.getName(), DANIEL.getName(), ELLE.getName()),
+                model.getProcessedPersonList().stream().map(Person::getName).toList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
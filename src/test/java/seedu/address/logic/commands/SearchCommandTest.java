@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.query.PersonMatchesQueryPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        Query firstQuery = new Query.TagTerm(new Tag("friends"));
+        Query secondQuery = new Query.Not(firstQuery);
+
+        SearchCommand firstCommand = new SearchCommand(firstQuery);
+        SearchCommand secondCommand = new SearchCommand(secondQuery);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SearchCommand(new Query.TagTerm(new Tag("FRIENDS")))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_tagsAndNames_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        Query query = new Query.And(List.of(new Query.TagTerm(new Tag("friends")),
+                new Query.Not(new Query.NameTerm("pauline"))));
+        expectedModel.filterPersonList(new PersonMatchesQueryPredicate(query, unused -> false));
+        assertCommandSuccess(new SearchCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void execute_pairedStudents_personsFound() {
+        model.pair(ALICE, ELLE);
+        Query query = new Query.And(List.of(new Query.PairedTerm(), new Query.TypeTerm(EntryType.STUDENT)));
+        new SearchCommand(query).execute(model);
+        assertEquals(List.of(ALICE), model.getProcessedPersonList());
+
+        new SearchCommand(new Query.PairedTerm()).execute(model);
+        assertEquals(List.of(ALICE, ELLE), model.getProcessedPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = new Query.PairedTerm();
+        SearchCommand command = new SearchCommand(query);
+        String expected = SearchCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -33,6 +33,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PairCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.UnpairCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -40,6 +41,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsTagPredicate;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Volunteer;
+import seedu.address.model.query.Query;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonUtil;
 
@@ -106,6 +108,15 @@ public class AddressBookParserTest {
                 command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " t/" + VALID_TAG_FRIEND + " OR paired");
+        Query expectedQuery = new Query.Or(List.of(new Query.TagTerm(new Tag(VALID_TAG_FRIEND)),
+                new Query.PairedTerm()));
+        assertEquals(new SearchCommand(expectedQuery), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameNearKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +32,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        assertParseSuccess(parser, "--fuzzy Jonh Alcie", new FindCommand(new NameNearKeywordsPredicate(
+                Arrays.asList("Jonh", "Alcie"), NameNearKeywordsPredicate.DEFAULT_MAX_DISTANCE)));
+        assertParseSuccess(parser, " --fuzzy=1 \t Jonh", new FindCommand(new NameNearKeywordsPredicate(
+                Arrays.asList("Jonh"), 1)));
+        assertParseSuccess(parser, "--fuzzy=10 Jonh", new FindCommand(new NameNearKeywordsPredicate(
+                Arrays.asList("Jonh"), 10)));
+
+        // the flag only counts before the keywords
+        assertParseSuccess(parser, "Jonh --fuzzy", new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList("Jonh", "--fuzzy"))));
+    }
+
+    @Test
+    public void parse_invalidFuzzyArgs_throwsParseException() {
+        assertParseFailure(parser, "--fuzzy", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "--fuzzy=0 Jonh", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+        assertParseFailure(parser, "--fuzzy=two Jonh", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+        assertParseFailure(parser, "--fuzzy=11 Jonh", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+        assertParseFailure(parser, "--fuzzy=2147483647 Jonh", FindCommandParser.MESSAGE_INVALID_DISTANCE);
+    }
 }
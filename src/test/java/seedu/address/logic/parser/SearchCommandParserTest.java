@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.SearchCommandParser.MESSAGE_EXPECTED_TERM;
+import static seedu.address.logic.parser.SearchCommandParser.MESSAGE_INVALID_TYPE;
+import static seedu.address.logic.parser.SearchCommandParser.MESSAGE_MISSING_VALUE;
+import static seedu.address.logic.parser.SearchCommandParser.MESSAGE_UNKNOWN_TERM;
+import static seedu.address.logic.parser.SearchCommandParser.MESSAGE_UNMATCHED_PARENTHESIS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+public class SearchCommandParserTest {
+
+    private static final Query MATH = new Query.TagTerm(new Tag("math"));
+    private static final Query SCIENCE = new Query.TagTerm(new Tag("science"));
+    private static final Query ALEX = new Query.NameTerm("alex");
+    private static final Query PAIRED = new Query.PairedTerm();
+
+    private final SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleTerm_returnsSearchCommand() {
+        assertParseSuccess(parser, " t/math ", new SearchCommand(MATH));
+        assertParseSuccess(parser, "n/alex", new SearchCommand(ALEX));
+        assertParseSuccess(parser, "PAIRED", new SearchCommand(PAIRED));
+        assertParseSuccess(parser, "unpaired", new SearchCommand(new Query.Not(PAIRED)));
+        assertParseSuccess(parser, "type/Student", new SearchCommand(new Query.TypeTerm(EntryType.STUDENT)));
+        assertParseSuccess(parser, "domain/example.com",
+                new SearchCommand(new Query.EmailDomainTerm("example.com")));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() {
+        // terms next to each other are ANDed
+        assertParseSuccess(parser, "t/math n/alex", new SearchCommand(new Query.And(List.of(MATH, ALEX))));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertParseSuccess(parser, "t/math or t/science AND not n/alex",
+                new SearchCommand(new Query.Or(List.of(MATH,
+                        new Query.And(List.of(SCIENCE, new Query.Not(ALEX)))))));
+
+        // parentheses group
+        assertParseSuccess(parser, "(t/math OR t/science)n/alex",
+                new SearchCommand(new Query.And(List.of(new Query.Or(List.of(MATH, SCIENCE)), ALEX))));
+        assertParseSuccess(parser, "NOT (t/math OR paired)",
+                new SearchCommand(new Query.Not(new Query.Or(List.of(MATH, PAIRED)))));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "t/math AND", String.format(MESSAGE_EXPECTED_TERM, "end of query"));
+        assertParseFailure(parser, "OR t/math", String.format(MESSAGE_EXPECTED_TERM, "OR"));
+        assertParseFailure(parser, "()", String.format(MESSAGE_EXPECTED_TERM, ")"));
+        assertParseFailure(parser, "(t/math", MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, "t/math)", MESSAGE_UNMATCHED_PARENTHESIS);
+        assertParseFailure(parser, "math", String.format(MESSAGE_UNKNOWN_TERM, "math"));
+        assertParseFailure(parser, "n/", String.format(MESSAGE_MISSING_VALUE, "n/"));
+        assertParseFailure(parser, "type/teacher", MESSAGE_INVALID_TYPE);
+        assertParseFailure(parser, "t/CS2103+", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -43,6 +48,20 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withPairings_copiesPairings() {
+        AddressBook newData = getTypicalAddressBook();
+        newData.pair(ALICE, BENSON);
+        newData.pair(ALICE, CARL);
+        newData.pair(CARL, DANIEL);
+        addressBook.resetData(newData);
+
+        assertEquals(Set.of(BENSON, CARL), addressBook.getPairedPersons(ALICE));
+        assertEquals(Set.of(ALICE, DANIEL), addressBook.getPairedPersons(CARL));
+        assertFalse(addressBook.isPaired(BENSON, CARL));
+        assertEquals(6, addressBook.getPairingIndexes().length);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -82,6 +101,33 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_afterEachChange_changes() {
+        assertModifies(() -> addressBook.addPerson(ALICE));
+        assertModifies(() -> addressBook.addPerson(ELLE));
+        assertModifies(() -> addressBook.pair(ALICE, ELLE));
+        assertModifies(() -> addressBook.unpair(ALICE, ELLE));
+        assertModifies(() -> addressBook.setPerson(ALICE, BENSON));
+        assertModifies(() -> addressBook.removePerson(BENSON));
+        assertModifies(() -> addressBook.resetData(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void getModificationCount_afterQueries_unchanged() {
+        addressBook.addPerson(ALICE);
+        long count = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPairedPersons(ALICE);
+        addressBook.getPairingIndexes();
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
+    private void assertModifies(Runnable change) {
+        long count = addressBook.getModificationCount();
+        change.run();
+        assertNotEquals(count, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -127,6 +173,16 @@ public class AddressBookTest {
         public Set<Person> getPairedPersons(Person p) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public int[] getPairingIndexes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -7,15 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.comparators.FindTagComparator;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsTagPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 
 // Some below wrongly attributed to recursive-rc due to method renaming
@@ -96,6 +103,49 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getProcessedPersonList().remove(0));
     }
 
+    @Test
+    public void filterPersonList_afterCustomSort_restoresAddressBookOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.filterAndSortPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Person p) -> p.getName().fullName).reversed());
+        modelManager.deletePerson(modelManager.getAddressBook().getPersonList().get(1));
+
+        modelManager.filterPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getProcessedPersonList());
+    }
+
+    @Test
+    public void filterPersonList_namePredicate_followsChanges() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.filterPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(2, modelManager.getProcessedPersonList().size());
+
+        Person benson = modelManager.getProcessedPersonList().get(0);
+        modelManager.setPerson(benson, benson.toBuilder().name("Benson Someone").build());
+        assertEquals(1, modelManager.getProcessedPersonList().size());
+
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        modelManager.setPerson(alice, alice.toBuilder().name("Alice Meier").build());
+        assertEquals(2, modelManager.getProcessedPersonList().size());
+    }
+
+    @Test
+    public void filterAndSortPersonList_tagPredicate_followsChanges() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Set<Tag> tags = Set.of(new Tag("owesMoney"));
+        modelManager.filterAndSortPersonList(new PersonContainsTagPredicate(tags),
+                new FindTagComparator(modelManager.getTagMatchCounter(tags)));
+        assertEquals(1, modelManager.getProcessedPersonList().size());
+
+        Person alice = modelManager.getAddressBook().getPersonList().get(0);
+        modelManager.setPerson(alice, alice.toBuilder().tags("OWESMONEY").build());
+        assertEquals(2, modelManager.getProcessedPersonList().size());
+
+        Person benson = modelManager.getProcessedPersonList().get(1);
+        modelManager.deletePerson(benson);
+        assertEquals(1, modelManager.getProcessedPersonList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -27,6 +27,9 @@ public class AddressTest {
         // invalid addresses
         assertFalse(Address.isValidAddress("")); // empty string
         assertFalse(Address.isValidAddress(" ")); // spaces only
+        assertFalse(Address.isValidAddress("\tBlk 456")); // starts with whitespace
+        assertFalse(Address.isValidAddress("Blk 456\nDen Road")); // line break
+        assertFalse(Address.isValidAddress("Blk 456\u2028")); // unicode line separator
 
         // valid addresses
         assertTrue(Address.isValidAddress("Blk 456, Den Road, #01-355"));
@@ -51,6 +51,10 @@ public class EmailTest {
         assertFalse(Email.isValidEmail("peterjack@-example.com")); // domain name starts with a hyphen
         assertFalse(Email.isValidEmail("peterjack@example.com-")); // domain name ends with a hyphen
         assertFalse(Email.isValidEmail("peterjack@example.c")); // top level domain has less than two chars
+        assertFalse(Email.isValidEmail("peterjack.@example.com")); // local part ends with a period
+        assertFalse(Email.isValidEmail("peter+-jack@example.com")); // local part has two consecutive specials
+        assertFalse(Email.isValidEmail("p\u00E9terjack@example.com")); // non-ASCII letter in local part
+        assertFalse(Email.isValidEmail("peterjack@ex\u00E1mple.com")); // non-ASCII letter in domain name
 
         // valid email
         assertTrue(Email.isValidEmail("PeterJack_1190@example.com")); // underscore in local part
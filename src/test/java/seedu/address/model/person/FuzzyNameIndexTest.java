@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyNameIndexTest {
+
+    @Test
+    public void distance_words_levenshteinDistance() {
+        assertEquals(0, FuzzyNameIndex.distance("john", "john", 2));
+        assertEquals(2, FuzzyNameIndex.distance("jonh", "john", 2));
+        assertEquals(3, FuzzyNameIndex.distance("kitten", "sitting", 3));
+        assertEquals(4, FuzzyNameIndex.distance("", "abcd", 4));
+
+        // distances above the limit are reported as one more than the limit
+        assertEquals(3, FuzzyNameIndex.distance("kitten", "sitting", 2));
+        assertEquals(2, FuzzyNameIndex.distance("a", "abcdef", 1));
+    }
+
+    @Test
+    public void search_maxDistance_findsWordsWithinIt() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        FuzzyNameIndex index = persons.getFuzzyNameIndex();
+
+        // "kurtz" is 1 edit from "kurz" and 2 from "kunz"
+        assertEquals(Map.of(), index.search(List.of("kurtz"), 0));
+        assertEquals(Map.of(idOf(persons, CARL), 1), index.search(List.of("kurtz"), 1));
+        assertEquals(Map.of(idOf(persons, CARL), 1, idOf(persons, FIONA), 2), index.search(List.of("KURTZ"), 2));
+
+        // the closest word of any keyword is reported
+        assertEquals(Map.of(idOf(persons, ELLE), 0, idOf(persons, BENSON), 1, idOf(persons, DANIEL), 1),
+                index.search(List.of("meyer"), 1));
+        assertEquals(Map.of(idOf(persons, ALICE), 0, idOf(persons, ELLE), 1), index.search(List.of("Alice Ele"), 1));
+        assertEquals(Map.of(), index.search(List.of("xyz"), 2));
+    }
+
+    @Test
+    public void search_distanceOutOfRange_throwsIllegalArgumentException() {
+        FuzzyNameIndex index = new UniquePersonList().getFuzzyNameIndex();
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of("kurtz"), -1));
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of("kurtz"),
+                FuzzyNameIndex.MAX_DISTANCE + 1));
+        assertThrows(IllegalArgumentException.class, () -> index.search(List.of("kurtz"), Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new NameNearKeywordsPredicate(List.of("kurtz"),
+                Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void search_afterChanges_followsChanges() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        FuzzyNameIndex index = persons.getFuzzyNameIndex();
+        index.search(List.of("a"), 1);
+
+        long version = index.getVersion();
+        Person alice = persons.asUnmodifiableObservableList().get(persons.indexOf(ALICE));
+        persons.setPerson(alice, alice.toBuilder().name("Alicia Kurzweil").build());
+        assertNotEquals(version, index.getVersion());
+        persons.remove(BENSON);
+        Person pauline = new Student.StudentBuilder().name("Pauline Meier").phone("123").email("p@example.com")
+                .address("Somewhere").build();
+        persons.add(pauline);
+
+        assertEquals(Map.of(pauline.getId(), 1), index.search(List.of("paulin"), 2));
+        assertEquals(Map.of(alice.getId(), 1), index.search(List.of("alicja"), 1));
+        assertEquals(Map.of(idOf(persons, DANIEL), 0, pauline.getId(), 0, idOf(persons, ELLE), 1),
+                index.search(List.of("meier"), 1));
+    }
+
+    @Test
+    public void distanceCounter_afterChanges_followsChanges() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        Person carl = persons.asUnmodifiableObservableList().get(persons.indexOf(CARL));
+        Person fiona = persons.asUnmodifiableObservableList().get(persons.indexOf(FIONA));
+        ToIntFunction<Person> distanceCounter = persons.getFuzzyNameIndex().distanceCounter(List.of("kurtz"), 1);
+        assertEquals(1, distanceCounter.applyAsInt(carl));
+        // further than the searched distance
+        assertEquals(2, distanceCounter.applyAsInt(fiona));
+
+        Person editedFiona = fiona.toBuilder().name("Fiona Kurtz").build();
+        persons.setPerson(fiona, editedFiona);
+        assertEquals(0, distanceCounter.applyAsInt(editedFiona));
+        persons.remove(carl);
+        assertEquals(2, distanceCounter.applyAsInt(carl));
+    }
+
+    @Test
+    public void search_manyRandomChanges_matchesScan() {
+        Random random = new Random(2103);
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> added = new ArrayList<>();
+        for (int k = 0; k < 3000; k++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                persons.remove(added.remove(random.nextInt(added.size())));
+            } else {
+                Person person = new Student.StudentBuilder().name(randomName(random, k)).phone("123")
+                        .email("p@example.com").address("Somewhere").build();
+                persons.add(person);
+                added.add(person);
+            }
+            if (k % 500 == 0) {
+                persons.getFuzzyNameIndex().search(List.of("a"), 1);
+            }
+        }
+
+        for (List<String> keywords : List.of(List.of("ab"), List.of("cabba"), List.of("1234"),
+                List.of("bac", "2"))) {
+            assertEquals(scan(persons, keywords, 2), persons.getFuzzyNameIndex().search(keywords, 2));
+        }
+    }
+
+    private static String randomName(Random random, int number) {
+        StringBuilder name = new StringBuilder();
+        for (int k = 0; k < 3 + random.nextInt(6); k++) {
+            name.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(3)));
+        }
+        return name.append(' ').append(number).toString();
+    }
+
+    private static Map<Long, Integer> scan(UniquePersonList persons, List<String> keywords, int maxDistance) {
+        List<String> foldedKeywords = FuzzyNameIndex.foldKeywords(keywords);
+        Map<Long, Integer> distances = new HashMap<>();
+        for (Person person : persons) {
+            int distance = FuzzyNameIndex.distance(foldedKeywords, person.getName(), maxDistance);
+            if (distance <= maxDistance) {
+                distances.put(person.getId(), distance);
+            }
+        }
+        return distances;
+    }
+
+    private static long idOf(UniquePersonList persons, Person person) {
+        return persons.asUnmodifiableObservableList().get(persons.indexOf(person)).getId();
+    }
+}
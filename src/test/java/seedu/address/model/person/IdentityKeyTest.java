@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class IdentityKeyTest {
+
+    private static IdentityKey key(String name, String phone, String email) {
+        return new IdentityKey(new Name(name), new Phone(phone), new Email(email));
+    }
+
+    @Test
+    public void constructor_normalizesFields() {
+        IdentityKey key = key("O’Connor  Smith", "+65 9123-4567", "Jean@Example.com");
+        assertEquals("o'connor smith", key.getName());
+        assertEquals("+6591234567", key.getPhone());
+        assertEquals("jean@example.com", key.getEmail());
+    }
+
+    @Test
+    public void isSameIdentity() {
+        IdentityKey key = key("Alice", "91234567", "alice@example.com");
+
+        // same name, same phone -> true
+        assertTrue(key.isSameIdentity(key("alice", "9123 4567", "other@example.com")));
+
+        // same name, same email -> true
+        assertTrue(key.isSameIdentity(key("ALICE", "98765432", "Alice@Example.com")));
+
+        // same name, different phone and email -> false
+        assertFalse(key.isSameIdentity(key("Alice", "98765432", "other@example.com")));
+
+        // different name -> false
+        assertFalse(key.isSameIdentity(key("Bob", "91234567", "alice@example.com")));
+
+        // both default contacts -> true
+        IdentityKey defaults = key("Alice", "000", "default@email");
+        assertTrue(defaults.isSameIdentity(key("alice", "000", "DEFAULT@email")));
+
+        // default phone on one side only, default emails on both -> false
+        assertFalse(defaults.isSameIdentity(key("Alice", "91234567", "default@email")));
+    }
+
+    @Test
+    public void getIndexKeys_sharedKeyIffSameIdentity() {
+        IdentityKey key = key("Alice", "91234567", "alice@example.com");
+        IdentityKey samePhone = key("alice", "9123-4567", "other@example.com");
+        IdentityKey different = key("Alice", "98765432", "other@example.com");
+
+        assertFalse(Collections.disjoint(key.getIndexKeys(), samePhone.getIndexKeys()));
+        assertTrue(Collections.disjoint(key.getIndexKeys(), different.getIndexKeys()));
+    }
+
+    @Test
+    public void equals() {
+        IdentityKey key = key("Alice", "91234567", "alice@example.com");
+
+        assertEquals(key, key("alice", "9123 4567", "ALICE@example.com"));
+        assertEquals(key.hashCode(), key("alice", "9123 4567", "ALICE@example.com").hashCode());
+        assertNotEquals(key, key("Alice", "91234567", "other@example.com"));
+        assertNotEquals(key, null);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import java.text.Normalizer;
+
+/**
+ * The original regex-based implementation of {@link Name#normalizeForIdentity(String)},
+ * kept as the reference that {@link NameNormalizer} is checked and benchmarked against.
+ */
+public class LegacyNameNormalizer {
+
+    private LegacyNameNormalizer() {}
+
+    /**
+     * Returns the canonical identity form of {@code s} using the original chain of regex replacements.
+     */
+    public static String normalize(String s) {
+        String n = Normalizer.normalize(s, Normalizer.Form.NFKC).toLowerCase();
+        n = n.replaceAll("[\\p{Cf}\\u200B\\u200C\\u200D\\uFEFF]+", "")
+                .replaceAll("\\p{M}+", "");
+
+        n = n
+                .replace('’', '\'')
+                .replace('‘', '\'')
+                .replace('‛', '\'')
+                .replace('‐', '-')
+                .replace('–', '-')
+                .replace('—', '-')
+                .replace('⁄', '/')
+                .replace('∕', '/');
+
+        n = n.trim().replaceAll("\\s+", " ");
+        n = n.replaceAll("\\b([sdw])\\s*[/]\\s*o\\b", "$1/o");
+        n = n.replaceAll("(?<=\\p{L})s/o\\b", " s/o");
+        n = n.replaceAll("\\bs/o(?=\\p{L})", "s/o ");
+        n = n.replaceAll("\\s*/\\s*", "/");
+        n = n.trim().replaceAll("\\s+", " ");
+
+        return n;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class NameIndexTest {
+
+    @Test
+    public void search_keywords_findsNamesContainingThem() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        NameIndex index = persons.getNameIndex();
+
+        assertEquals(Set.of(idOf(persons, BENSON), idOf(persons, DANIEL)), index.search(List.of("MEIER")));
+        assertEquals(Set.of(idOf(persons, ALICE)), index.search(List.of("  ice pau "))); // across words, trimmed
+        assertEquals(Set.of(idOf(persons, CARL), idOf(persons, ELLE)), index.search(List.of("kurz", "ELLE")));
+        assertEquals(Set.of(), index.search(List.of("xyz")));
+    }
+
+    @Test
+    public void search_keywordsShorterThanTrigram_findsNamesContainingThem() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        NameIndex index = persons.getNameIndex();
+
+        assertEquals(Set.of(idOf(persons, CARL), idOf(persons, FIONA)), index.search(List.of("z")));
+        assertEquals(Set.of(idOf(persons, CARL), idOf(persons, FIONA)), index.search(List.of("Ku")));
+        assertEquals(Set.of(idOf(persons, ALICE), idOf(persons, GEORGE)), index.search(List.of("al", "st")));
+    }
+
+    @Test
+    public void search_emptyKeyword_throwsIllegalArgumentException() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        assertThrows(IllegalArgumentException.class, () -> persons.getNameIndex().search(List.of("  ")));
+    }
+
+    @Test
+    public void search_afterChanges_followsChanges() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        NameIndex index = persons.getNameIndex();
+        index.search(List.of("a"));
+
+        long version = index.getVersion();
+        Person alice = persons.asUnmodifiableObservableList().get(persons.indexOf(ALICE));
+        persons.setPerson(alice, alice.toBuilder().name("Alicia Kurzweil").build());
+        assertNotEquals(version, index.getVersion());
+        persons.remove(BENSON);
+        Person pauline = new Student.StudentBuilder().name("Pauline Meier").phone("123").email("p@example.com")
+                .address("Somewhere").build();
+        persons.add(pauline);
+
+        assertEquals(Set.of(alice.getId(), idOf(persons, CARL)), index.search(List.of("kurz")));
+        assertEquals(Set.of(idOf(persons, DANIEL), pauline.getId()), index.search(List.of("meier")));
+        assertEquals(Set.of(pauline.getId()), index.search(List.of("pauline")));
+    }
+
+    @Test
+    public void estimateMatches_mostSlotsEmpty_rebuilds() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> removed = new ArrayList<>();
+        List<Person> kept = new ArrayList<>();
+        for (int k = 0; k < 550; k++) {
+            removed.add(new Student.StudentBuilder().name("Removed " + k).phone("123")
+                    .email("p@example.com").address("Somewhere").build());
+            kept.add(new Student.StudentBuilder().name("Kept " + k).phone("123")
+                    .email("p@example.com").address("Somewhere").build());
+        }
+        removed.forEach(persons::add);
+        kept.forEach(persons::add);
+        NameIndex index = persons.getNameIndex();
+        assertEquals(550, index.estimateMatches("removed"));
+
+        // the slots of removed persons are left empty, and still counted, while at least half are in use
+        removed.forEach(persons::remove);
+        assertEquals(550, index.estimateMatches("removed"));
+        assertEquals(Set.of(), index.search(List.of("removed")));
+
+        // once most slots are empty, the index is rebuilt from the persons left
+        persons.remove(kept.get(0));
+        assertEquals(0, index.estimateMatches("removed"));
+        assertEquals(Set.of(kept.get(549).getId()), index.search(List.of("kept 549")));
+    }
+
+    @Test
+    public void search_manyRandomChanges_matchesScan() {
+        Random random = new Random(2103);
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> added = new ArrayList<>();
+        for (int k = 0; k < 3000; k++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                persons.remove(added.remove(random.nextInt(added.size())));
+            } else {
+                Person person = new Student.StudentBuilder().name(randomName(random, k)).phone("123")
+                        .email("p@example.com").address("Somewhere").build();
+                persons.add(person);
+                added.add(person);
+            }
+            if (k % 500 == 0) {
+                persons.getNameIndex().search(List.of("a"));
+            }
+        }
+
+        for (List<String> keywords : List.of(List.of("ab"), List.of("cab"), List.of("abcab"), List.of("1"),
+                List.of("ba", "b 2"))) {
+            assertEquals(scan(persons, keywords), persons.getNameIndex().search(keywords));
+        }
+    }
+
+    private static String randomName(Random random, int number) {
+        StringBuilder name = new StringBuilder();
+        for (int k = 0; k < 3 + random.nextInt(8); k++) {
+            name.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(3)));
+        }
+        return name.append(' ').append(number).toString();
+    }
+
+    private static Set<Long> scan(UniquePersonList persons, List<String> keywords) {
+        Set<Long> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (keywords.stream().anyMatch(keyword ->
+                    StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword))) {
+                ids.add(person.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static long idOf(UniquePersonList persons, Person person) {
+        return persons.asUnmodifiableObservableList().get(persons.indexOf(person)).getId();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class NameNormalizerTest {
+
+    /** Pairs of raw name and expected canonical form, as produced by the original regex implementation. */
+    private static final String[][] GOLDEN = {
+        // whitespace and case
+        {"Alex Yeoh", "alex yeoh"},
+        {"  Bernice   Yu ", "bernice yu"},
+        {"Raj\ts/o\tKumar", "raj s/o kumar"},
+        {"Ron Aldo", "ron aldo"},
+        {"Ronaldo", "ronaldo"},
+
+        // relationship tokens
+        {"Abc s/o Bcd", "abc s/o bcd"},
+        {"Abc s / o  Bcd", "abc s/o bcd"},
+        {"Kumar S/O Raj", "kumar s/o raj"},
+        {"Siti d / o Ahmad", "siti d/o ahmad"},
+        {"Mary w/o John", "mary w/o john"},
+        {"Abcs/o Bcd", "abc s/o bcd"},
+        {"Abc s/oBcd", "abc s/o bcd"},
+        {"Muthu S⁄O Rama", "muthu s/o rama"},
+        {"s/o", "s/o"},
+        {"S / O", "s/o"},
+        {"a / b", "a/b"},
+
+        // punctuation variants
+        {"O’Connor", "o'connor"},
+        {"D‘Arcy", "d'arcy"},
+        {"Jean–Paul Sartre", "jean-paul sartre"},
+        {"Anne—Marie", "anne-marie"},
+        {"Tan Ah Kow (Alex)", "tan ah kow (alex)"},
+        {"Smith, John Jr.", "smith, john jr."},
+
+        // Unicode normalization, marks and invisible characters
+        {"Renée", "renée"},
+        {"Rene\u0301e", "renée"},
+        {"Li\u200B Wei", "li wei"},
+        {"Zoë\uFEFF Tan", "zoë tan"},
+        {"Ｆｕｌｌｗｉｄｔｈ Ｎａｍｅ", "fullwidth name"},
+        {"ﬁona ﬂynn", "fiona flynn"},
+        {"X Æ A-12", "x æ a-12"},
+
+        // multilingual names
+        {"José Álvarez", "josé álvarez"},
+        {"François Müller", "françois müller"},
+        {"Ævar Þór", "ævar þór"},
+        {"Łukasz Żółć", "łukasz żółć"},
+        {"Nguyễn Văn An", "nguyễn văn an"},
+        {"Đặng Thị Mai", "đặng thị mai"},
+        {"İsmail Şahin", "ismail şahin"},
+        {"Σωκράτης Παππάς", "σωκράτης παππάς"},
+        {"Владимир Путин", "владимир путин"},
+        {"김민준", "김민준"},
+        {"李 小龍", "李 小龍"},
+        {"山田 太郎", "山田 太郎"},
+        {"محمد علي", "محمد علي"},
+        {"דוד כהן", "דוד כהן"},
+        {"ราชา ไทย", "ราชา ไทย"},
+    };
+
+    @Test
+    public void normalize_goldenCorpus_matchesExpectedOutput() {
+        for (String[] entry : GOLDEN) {
+            assertEquals(entry[1], NameNormalizer.normalize(entry[0]), "normalizing \"" + entry[0] + "\"");
+        }
+    }
+
+    @Test
+    public void normalize_goldenCorpus_matchesLegacyImplementation() {
+        for (String[] entry : GOLDEN) {
+            assertEquals(LegacyNameNormalizer.normalize(entry[0]), NameNormalizer.normalize(entry[0]),
+                    "normalizing \"" + entry[0] + "\"");
+        }
+    }
+
+    @Test
+    public void normalize_relationshipTokenCombinations_matchesLegacyImplementation() {
+        String[] atoms = {"s", "d", "w", "o", "/", "⁄", " ", "  ", "x", "1", "_", "-", "é"};
+        StringBuilder name = new StringBuilder();
+        // every sequence of up to five atoms
+        int combinations = (int) Math.pow(atoms.length, 5);
+        for (int n = 0; n < combinations; n++) {
+            name.setLength(0);
+            for (int rest = n; rest > 0; rest /= atoms.length) {
+                name.append(atoms[rest % atoms.length]);
+            }
+            String raw = name.toString();
+            assertEquals(LegacyNameNormalizer.normalize(raw), NameNormalizer.normalize(raw),
+                    "normalizing \"" + raw + "\"");
+        }
+    }
+}
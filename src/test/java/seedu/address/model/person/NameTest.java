@@ -33,6 +33,9 @@ public class NameTest {
         assertFalse(Name.isValidName("/Charlie"));
         assertFalse(Name.isValidName("\u0007Beep"));
         assertFalse(Name.isValidName("Mary*Jane"));
+        assertFalse(Name.isValidName("Mary_Jane"));
+        assertFalse(Name.isValidName("Mary\u200BJane")); // zero-width space
+        assertFalse(Name.isValidName("Mary\n")); // trailing line break
 
         // valid
         assertTrue(Name.isValidName("peter jack"));
@@ -49,6 +52,9 @@ public class NameTest {
         assertTrue(Name.isValidName("Ren\u00E9e")); // NFC
         assertTrue(Name.isValidName("Rene\u0301e")); // NFD
         assertTrue(Name.isValidName("李 小龍"));
+        assertTrue(Name.isValidName("\u0301Ana")); // leading combining mark
+        assertTrue(Name.isValidName("Louis \u2167")); // roman numeral
+        assertTrue(Name.isValidName("\uD840\uDC00")); // supplementary character
     }
 
     @Test
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class PairingGraphTest {
+
+    private final PairingGraph graph = new PairingGraph();
+
+    @Test
+    public void add_newPairing_pairsBothWays() {
+        assertTrue(graph.add(0, 1));
+        assertTrue(graph.contains(0, 1));
+        assertTrue(graph.contains(1, 0));
+        assertEquals(1, graph.edgeCount());
+    }
+
+    @Test
+    public void add_existingPairing_returnsFalse() {
+        graph.add(0, 1);
+        assertFalse(graph.add(1, 0));
+        assertEquals(1, graph.edgeCount());
+        assertEquals(1, graph.degree(0));
+    }
+
+    @Test
+    public void add_idBeyondCapacity_grows() {
+        graph.add(3, 1000);
+        assertTrue(graph.contains(1000, 3));
+        assertFalse(graph.contains(999, 3));
+    }
+
+    @Test
+    public void remove_existingPairing_unpairsBothWays() {
+        graph.add(0, 1);
+        graph.add(0, 2);
+        assertTrue(graph.remove(1, 0));
+        assertFalse(graph.contains(0, 1));
+        assertTrue(graph.contains(0, 2));
+        assertEquals(1, graph.edgeCount());
+        assertFalse(graph.remove(0, 1));
+    }
+
+    @Test
+    public void partnersOf_returnsAllPartners() {
+        for (int i = 1; i <= 10; i++) {
+            graph.add(0, i);
+        }
+        int[] partners = graph.partnersOf(0);
+        Arrays.sort(partners);
+        assertTrue(Arrays.equals(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, partners));
+        assertEquals(0, graph.partnersOf(42).length);
+    }
+
+    @Test
+    public void removeAll_removesEveryPairingOfId() {
+        graph.add(0, 1);
+        graph.add(0, 2);
+        graph.add(1, 2);
+        graph.removeAll(0);
+        assertEquals(0, graph.degree(0));
+        assertFalse(graph.contains(1, 0));
+        assertFalse(graph.contains(2, 0));
+        assertTrue(graph.contains(1, 2));
+        assertEquals(1, graph.edgeCount());
+    }
+
+    @Test
+    public void setAll_copiesIndependently() {
+        graph.add(0, 1);
+        PairingGraph copy = new PairingGraph();
+        copy.setAll(graph);
+        graph.remove(0, 1);
+        assertTrue(copy.contains(0, 1));
+        assertEquals(1, copy.edgeCount());
+    }
+}
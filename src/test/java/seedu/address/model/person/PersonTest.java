@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -93,6 +94,20 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getId() {
+        // edited via toBuilder -> same id
+        assertEquals(ALICE.getId(), ALICE.toBuilder().name(VALID_NAME_BOB).build().getId());
+        assertEquals(ALICE.getId(), Student.toBuilder(ALICE.toBuilder()).phone(VALID_PHONE_BOB).build().getId());
+
+        // copied from another person -> different id
+        assertNotEquals(ALICE.getId(), new Person.PersonBuilder(ALICE).build().getId());
+
+        // new persons -> different ids
+        assertNotEquals(new Person.PersonBuilder().name(VALID_NAME_BOB).build().getId(),
+                new Person.PersonBuilder().name(VALID_NAME_BOB).build().getId());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = "[Student] seedu.address.model.person.Student{name=Alice Pauline, phone=94351253,"
@@ -36,6 +36,9 @@ public class PhoneTest {
         assertFalse(Phone.isValidPhone("++1234")); // multiple plus
         assertFalse(Phone.isValidPhone("-1234")); // starts with dash
         assertFalse(Phone.isValidPhone("1234-")); // ends with dash (reject if your validator does)
+        assertFalse(Phone.isValidPhone("+12")); // plus with fewer than 3 digits
+        assertFalse(Phone.isValidPhone("12--34")); // consecutive dashes
+        assertFalse(Phone.isValidPhone("12 -34")); // space then dash
 
         // valid phone numbers
         assertTrue(Phone.isValidPhone("911")); // exactly 3 digits
@@ -46,6 +49,7 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("+65 9312 1534")); // leading plus + spaces
         assertTrue(Phone.isValidPhone("+1-202-555-0173")); // leading plus + dashes
         assertTrue(Phone.isValidPhone("00123")); // leading zeros ok
+        assertTrue(Phone.isValidPhone("\t911 ")); // surrounding whitespace is trimmed
     }
 
     @Test
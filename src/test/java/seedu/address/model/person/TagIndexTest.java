@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class TagIndexTest {
+
+    @Test
+    public void countMatches_tags_countsMatchingTagsPerPerson() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        TagIndex index = persons.getTagIndex();
+
+        assertEquals(Map.of(), index.countMatches(Set.of()));
+        assertEquals(Map.of(), index.countMatches(tags("unknown")));
+        assertEquals(Map.of(idOf(persons, ALICE), 1, idOf(persons, BENSON), 1, idOf(persons, DANIEL), 1),
+                index.countMatches(tags("FRIENDS")));
+        assertEquals(Map.of(idOf(persons, ALICE), 1, idOf(persons, BENSON), 2, idOf(persons, DANIEL), 1),
+                index.countMatches(tags("friends", "owesMoney", "unknown")));
+    }
+
+    @Test
+    public void countMatches_afterChanges_followsChanges() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        TagIndex index = persons.getTagIndex();
+        index.countMatches(tags("friends"));
+
+        long version = index.getVersion();
+        Person alice = persons.asUnmodifiableObservableList().get(persons.indexOf(ALICE));
+        persons.setPerson(alice, alice.toBuilder().tags("owesMoney", "math").build());
+        assertNotEquals(version, index.getVersion());
+        persons.remove(BENSON);
+
+        assertEquals(Map.of(idOf(persons, DANIEL), 1), index.countMatches(tags("friends")));
+        assertEquals(Map.of(alice.getId(), 2), index.countMatches(tags("math", "owesMoney")));
+    }
+
+    @Test
+    public void countMatches_slotReused_reportsOnlyNewPerson() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        TagIndex index = persons.getTagIndex();
+        index.countMatches(tags("friends"));
+
+        // the person added takes the slot of the person removed
+        persons.remove(BENSON);
+        Person pauline = new Student.StudentBuilder().name("Pauline Meier").phone("123").email("p@example.com")
+                .address("Somewhere").tags("math").build();
+        persons.add(pauline);
+
+        assertEquals(Map.of(idOf(persons, ALICE), 1, idOf(persons, DANIEL), 1),
+                index.countMatches(tags("friends", "owesMoney")));
+        assertEquals(Map.of(pauline.getId(), 1), index.countMatches(tags("math", "owesMoney")));
+    }
+
+    @Test
+    public void matchCounter_afterChanges_followsChanges() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        Person alice = persons.asUnmodifiableObservableList().get(persons.indexOf(ALICE));
+        Person benson = persons.asUnmodifiableObservableList().get(persons.indexOf(BENSON));
+        ToIntFunction<Person> matchCounter = persons.getTagIndex().matchCounter(tags("friends", "owesMoney"));
+        assertEquals(1, matchCounter.applyAsInt(alice));
+        assertEquals(2, matchCounter.applyAsInt(benson));
+
+        Person editedAlice = alice.toBuilder().tags("owesMoney", "friends").build();
+        persons.setPerson(alice, editedAlice);
+        assertEquals(2, matchCounter.applyAsInt(editedAlice));
+        persons.remove(benson);
+        assertEquals(0, matchCounter.applyAsInt(benson));
+    }
+
+    @Test
+    public void countMatches_manyRandomChanges_matchesScan() {
+        String[] tagNames = {"a", "b", "c", "d", "E"};
+        Random random = new Random(2103);
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> added = new ArrayList<>();
+        for (int k = 0; k < 2000; k++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                persons.remove(added.remove(random.nextInt(added.size())));
+            } else {
+                Person person = new Student.StudentBuilder().name("Person " + k).phone("123")
+                        .email("p@example.com").address("Somewhere")
+                        .tags(tagNames[random.nextInt(5)], tagNames[random.nextInt(5)]).build();
+                persons.add(person);
+                added.add(person);
+            }
+            if (k % 400 == 0) {
+                persons.getTagIndex().countMatches(tags("a"));
+            }
+        }
+
+        for (Set<Tag> tags : List.of(tags("a"), tags("e"), tags("a", "b", "c"), tags("B", "D", "e"))) {
+            assertEquals(scan(persons, tags), persons.getTagIndex().countMatches(tags));
+        }
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    private static Map<Long, Integer> scan(UniquePersonList persons, Set<Tag> tags) {
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Person person : persons) {
+            Set<Tag> matching = new HashSet<>(tags);
+            matching.retainAll(person.getTags());
+            if (!matching.isEmpty()) {
+                matches.put(person.getId(), matching.size());
+            }
+        }
+        return matches;
+    }
+
+    private static long idOf(UniquePersonList persons, Person person) {
+        return persons.asUnmodifiableObservableList().get(persons.indexOf(person)).getId();
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +55,25 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentContactsInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherContacts = new Person.PersonBuilder()
+                .name(ALICE.getName())
+                .phone(VALID_PHONE_BOB)
+                .email(VALID_EMAIL_BOB)
+                .build();
+        assertFalse(uniquePersonList.contains(aliceWithOtherContacts));
+    }
+
+    @Test
+    public void contains_personWithDefaultContactsInList_returnsTrue() {
+        uniquePersonList.add(new Person.PersonBuilder().name("Alice  Pauline").build());
+        assertTrue(uniquePersonList.contains(new Person.PersonBuilder().name("alice pauline").build()));
+        assertFalse(uniquePersonList.contains(new Person.PersonBuilder().name("alice pauline")
+                .phone(VALID_PHONE_BOB).build()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -103,6 +129,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -112,6 +140,35 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_earlierVersionOfPerson_replacesCurrentVersion() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.pair(ALICE, BENSON);
+        Person editedAlice = ALICE.toBuilder().address(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        Person reeditedAlice = editedAlice.toBuilder().tags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, reeditedAlice);
+
+        assertEquals(List.of(reeditedAlice, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.indexOf(editedAlice));
+        assertEquals(Set.of(reeditedAlice), uniquePersonList.getPairedPersons(BENSON));
+    }
+
+    @Test
+    public void add_otherVersionOfPersonInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = ALICE.toBuilder().name(VALID_NAME_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(renamedAlice));
+    }
+
+    @Test
+    public void indexOf_equalCopyOfPerson_returnsIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(1, uniquePersonList.indexOf(new Person.PersonBuilder(BENSON).build()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -128,6 +185,74 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_afterMutations_tracksPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+
+        uniquePersonList.setPerson(BENSON, BOB);
+        assertEquals(-1, uniquePersonList.indexOf(BENSON));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+
+        uniquePersonList.add(ALICE);
+        assertEquals(2, uniquePersonList.indexOf(ALICE));
+        for (int i = 0; i < uniquePersonList.asUnmodifiableObservableList().size(); i++) {
+            assertEquals(i, uniquePersonList.indexOf(uniquePersonList.asUnmodifiableObservableList().get(i)));
+        }
+    }
+
+    @Test
+    public void getPairingIndexes_afterRemove_usesCurrentPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.pair(ALICE, BENSON);
+        uniquePersonList.pair(BENSON, CARL);
+        uniquePersonList.remove(ALICE);
+
+        assertArrayEquals(new int[] {0, 1}, uniquePersonList.getPairingIndexes());
+    }
+
+    @Test
+    public void add_afterPairedPersonRemoved_newPersonHasNoPairings() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.pair(ALICE, BENSON);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+
+        assertEquals(Set.of(), uniquePersonList.getPairedPersons(BOB));
+        assertEquals(Set.of(), uniquePersonList.getPairedPersons(BENSON));
+        uniquePersonList.pair(BOB, CARL);
+        assertEquals(Set.of(CARL), uniquePersonList.getPairedPersons(BOB));
+        // BOB takes over the pairing id freed by ALICE, which is smaller than CARL's, so BOB is listed first
+        assertArrayEquals(new int[] {2, 1}, uniquePersonList.getPairingIndexes());
+    }
+
+    @Test
+    public void setPairingIndexes_validIndexes_replacesPairings() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.pair(ALICE, BENSON);
+        uniquePersonList.setPairingIndexes(new int[] {2, 0, 1, 2});
+
+        assertFalse(uniquePersonList.isPaired(ALICE, BENSON));
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.getPairedPersons(CARL));
+    }
+
+    @Test
+    public void setPairingIndexes_oddLength_throwsIllegalArgumentException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.setPairingIndexes(new int[] {0}));
     }
 
     @Test
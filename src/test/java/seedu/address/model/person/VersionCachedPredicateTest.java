@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class VersionCachedPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new VersionCachedPredicate(null, () -> person -> true));
+        assertThrows(NullPointerException.class, () -> new VersionCachedPredicate(() -> 0, null));
+    }
+
+    @Test
+    public void test_sameVersion_reusesMatches() {
+        long[] version = {0};
+        int[] searches = {0};
+        VersionCachedPredicate predicate = VersionCachedPredicate.ofMatches(() -> version[0], () -> {
+            searches[0]++;
+            return searches[0] == 1 ? Set.of(ALICE.getId()) : Set.of(BENSON.getId());
+        });
+
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+        assertEquals(1, searches[0]);
+
+        version[0]++;
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertEquals(2, searches[0]);
+    }
+}
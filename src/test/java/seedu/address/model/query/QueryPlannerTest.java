@@ -0,0 +1,117 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.EntryType;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.tag.Tag;
+
+public class QueryPlannerTest {
+
+    private static final String[] SYLLABLES = {"ann", "ben", "kar", "lee", "tan", "wu"};
+    private static final String[] TAGS = {"math", "science", "english", "art"};
+
+    private static final Query MATH = new Query.TagTerm(new Tag("math"));
+    private static final Query SCIENCE = new Query.TagTerm(new Tag("SCIENCE"));
+    private static final Query ANN = new Query.NameTerm("ann");
+    private static final Query KARLEE = new Query.NameTerm("karlee");
+    private static final Query WU = new Query.NameTerm("wu");
+    private static final Query NOBODY = new Query.NameTerm("zzz");
+    private static final Query STUDENT = new Query.TypeTerm(EntryType.STUDENT);
+    private static final Query PAIRED = new Query.PairedTerm();
+    private static final Query EXAMPLE = new Query.EmailDomainTerm("example.com");
+
+    private static final List<Query> QUERIES = List.of(MATH, ANN, WU, NOBODY, STUDENT, PAIRED, EXAMPLE,
+            new Query.Not(MATH),
+            new Query.And(List.of(MATH, SCIENCE)),
+            new Query.And(List.of(MATH, ANN)),
+            new Query.And(List.of(ANN, KARLEE, MATH)),
+            new Query.And(List.of(MATH, NOBODY)),
+            new Query.And(List.of(STUDENT, new Query.Not(PAIRED))),
+            new Query.And(List.of(PAIRED, SCIENCE, new Query.Or(List.of(ANN, WU)))),
+            new Query.Or(List.of(MATH, ANN)),
+            new Query.Or(List.of(MATH, STUDENT)),
+            new Query.Or(List.of(new Query.And(List.of(MATH, STUDENT)), new Query.Not(EXAMPLE))),
+            new Query.Not(new Query.And(List.of(new Query.Or(List.of(MATH, SCIENCE)), ANN))));
+
+    @Test
+    public void plan_typicalPersons_findsMatchingPersons() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.pair(ALICE, ELLE);
+        Query friends = new Query.TagTerm(new Tag("friends"));
+        Query owesMoney = new Query.TagTerm(new Tag("owesMoney"));
+
+        assertEquals(List.of(BENSON, DANIEL),
+                findMatches(addressBook, new Query.And(List.of(friends, new Query.NameTerm("meier")))));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL),
+                findMatches(addressBook, new Query.Or(List.of(friends, new Query.NameTerm("kurz")))));
+        assertEquals(List.of(FIONA, GEORGE), findMatches(addressBook, new Query.And(List.of(
+                new Query.TypeTerm(EntryType.VOLUNTEER), new Query.Not(new Query.NameTerm("meyer"))))));
+        assertEquals(List.of(ALICE), findMatches(addressBook, new Query.And(List.of(PAIRED, friends))));
+        assertEquals(List.of(CARL, ELLE, FIONA, GEORGE),
+                findMatches(addressBook, new Query.Not(new Query.Or(List.of(friends, owesMoney)))));
+        assertEquals(List.of(), findMatches(addressBook, new Query.And(List.of(NOBODY, friends))));
+    }
+
+    @Test
+    public void plan_manyPersons_matchesQuery() {
+        Random random = new Random(2103);
+        AddressBook addressBook = new AddressBook();
+        for (int k = 0; k < 600; k++) {
+            Person.PersonBuilder builder = random.nextBoolean()
+                    ? new Student.StudentBuilder() : new Volunteer.VolunteerBuilder();
+            addressBook.addPerson(builder
+                    .name(SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                            + " " + k)
+                    .phone("123")
+                    .email("p" + k + (random.nextInt(3) == 0 ? "@example.com" : "@mail.example.org"))
+                    .address("Somewhere")
+                    .tags(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)])
+                    .build());
+        }
+        List<Person> persons = addressBook.getPersonList();
+        for (int k = 0; k < 200; k++) {
+            Person a = persons.get(random.nextInt(persons.size()));
+            Person b = persons.get(random.nextInt(persons.size()));
+            if (a != b && !addressBook.isPaired(a, b)) {
+                addressBook.pair(a, b);
+            }
+        }
+        assertPlansMatchQueries(addressBook);
+    }
+
+    private static List<Person> findMatches(AddressBook addressBook, Query query) {
+        Predicate<Person> plan = new QueryPlanner(addressBook.getNameIndex(), addressBook.getTagIndex(),
+                addressBook::hasPartner).plan(query);
+        return addressBook.getPersonList().stream().filter(plan).toList();
+    }
+
+    private static void assertPlansMatchQueries(AddressBook addressBook) {
+        QueryPlanner planner = new QueryPlanner(addressBook.getNameIndex(), addressBook.getTagIndex(),
+                addressBook::hasPartner);
+        for (Query query : QUERIES) {
+            Predicate<Person> plan = planner.plan(query);
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(query.matches(person, addressBook::hasPartner), plan.test(person),
+                        query + " on " + person.getName());
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,15 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
-    }
 
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("best friend")); // space
+        assertFalse(Tag.isValidTagName("best_friend")); // underscore
+        assertFalse(Tag.isValidTagName("caf\u00E9")); // non-ASCII letter
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("friends"));
+        assertTrue(Tag.isValidTagName("CS2103T"));
+    }
 }
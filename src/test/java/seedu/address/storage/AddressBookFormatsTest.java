@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+
+public class AddressBookFormatsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void hasDataFile_eachFormat_onlyThatFormat() throws Exception {
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            Path filePath = testFolder.resolve(format + ".json");
+            for (AddressBookFormat other : AddressBookFormat.values()) {
+                assertFalse(AddressBookFormats.hasDataFile(other, filePath));
+            }
+            AddressBookFormats.createStorage(format, filePath, Deflater.DEFAULT_COMPRESSION)
+                    .saveAddressBook(getTypicalAddressBook());
+            for (AddressBookFormat other : AddressBookFormat.values()) {
+                assertEquals(other == format, AddressBookFormats.hasDataFile(other, filePath));
+            }
+        }
+    }
+
+    @Test
+    public void openStorage_dataFileInOtherFormat_converted() throws Exception {
+        for (AddressBookFormat from : AddressBookFormat.values()) {
+            for (AddressBookFormat to : AddressBookFormat.values()) {
+                Path filePath = testFolder.resolve(from + "-to-" + to + ".json");
+                AddressBook addressBook = getTypicalAddressBook();
+                AddressBookStorage fromStorage = AddressBookFormats.createStorage(from, filePath,
+                        Deflater.DEFAULT_COMPRESSION);
+                fromStorage.saveAddressBook(addressBook);
+                // journaled changes are converted too
+                addressBook.addPerson(HOON);
+                fromStorage.saveAddressBook(addressBook);
+
+                AddressBookStorage toStorage = AddressBookFormats.openStorage(to, filePath,
+                        Deflater.DEFAULT_COMPRESSION);
+                assertTrue(AddressBookFormats.hasDataFile(to, filePath));
+                assertEquals(addressBook, new AddressBook(toStorage.readAddressBook().get()));
+            }
+        }
+    }
+
+    @Test
+    public void openStorage_noDataFile_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBookStorage storage = AddressBookFormats.openStorage(AddressBookFormat.BINARY, filePath,
+                Deflater.DEFAULT_COMPRESSION);
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void openStorage_unreadableDataFileInOtherFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{\"persons\": [{\"name\": \"Valid Person\", \"phone\": \"not a phone\"}]}");
+        byte[] contents = Files.readAllBytes(filePath);
+
+        assertThrows(DataLoadingException.class, () -> AddressBookFormats.openStorage(AddressBookFormat.SEGMENTED,
+                filePath, Deflater.DEFAULT_COMPRESSION));
+        assertArrayEquals(contents, Files.readAllBytes(filePath));
+    }
+}
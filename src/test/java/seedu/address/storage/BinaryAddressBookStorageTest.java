@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Person alice = original.getPersonList().get(original.indexOf(ALICE));
+        original.pair(alice, original.getPersonList().get(original.indexOf(ELLE)));
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertTrue(readBack.isPaired(readBack.getPersonList().get(readBack.indexOf(ALICE)),
+                readBack.getPersonList().get(readBack.indexOf(ELLE))));
+        assertFalse(Files.exists(testFolder.resolve("addressBook.bin.tmp")));
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_keepsIds() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> readBack = storage.readAddressBook().get().getPersonList();
+        for (int k = 0; k < original.getPersonList().size(); k++) {
+            assertEquals(original.getPersonList().get(k).getId(), readBack.get(k).getId());
+        }
+    }
+
+    @Test
+    public void readAddressBook_versionWithoutIds_readsPersons() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(BinaryAddressBookStream.MAGIC);
+        bytes.write(1);
+        bytes.write(2);
+        writeString(bytes, "alice@example.com");
+        writeString(bytes, "Block 1");
+        bytes.write(1);
+        bytes.write(0);
+        writeString(bytes, "Alice Pauline");
+        writeString(bytes, "94351253");
+        bytes.write(0);
+        bytes.write(1);
+        bytes.write(0);
+        bytes.write(0);
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Files.write(filePath, bytes.toByteArray());
+
+        List<Person> persons = new BinaryAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(List.of(new Person.PersonBuilder().name("Alice Pauline").phone("94351253")
+                .email("alice@example.com").address("Block 1").build()), persons);
+    }
+
+    @Test
+    public void readAddressBook_largeFile_readsMappedFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        String street = "Clementi Ave 2".repeat(40);
+        for (int i = 0; i < 2000; i++) {
+            original.addPerson(new Student.StudentBuilder().name("Person " + i)
+                    .phone(String.valueOf(90000000 + i)).address("Block " + i + ", " + street).build());
+        }
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.size(filePath) > 1 << 20);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the file can still be replaced after it has been mapped
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookStream.MAGIC.length] = (byte) (BinaryAddressBookStream.VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("a.bin")).saveAddressBook(null));
+    }
+}
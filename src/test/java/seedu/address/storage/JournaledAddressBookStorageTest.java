@@ -0,0 +1,273 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullSnapshotStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(newStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(storage.getAddressBookFilePath());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Person benson = getPerson(addressBook, BENSON);
+        Person editedBenson = benson.toBuilder().address("Somewhere else").build();
+        addressBook.setPerson(benson, editedBenson);
+        addressBook.removePerson(ALICE);
+        addressBook.pair(CARL, FIONA);
+        storage.saveAddressBook(addressBook);
+        addressBook.unpair(CARL, FIONA);
+        addressBook.pair(editedBenson, ELLE);
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(storage.getAddressBookFilePath()));
+        assertEquals(1 + 6, journalLines(storage).size());
+        assertReadsBack(addressBook, storage);
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_journalUnchanged() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, journalLines(storage).size());
+    }
+
+    @Test
+    public void saveAddressBook_overThreshold_compacts() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, journalLines(storage).size());
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, journalLines(storage).size());
+        assertEquals(addressBook, new AddressBook(
+                new JsonAddressBookStorage(storage.getAddressBookFilePath()).readAddressBook().get()));
+        assertReadsBack(addressBook, storage);
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage reopened = newStorage(10);
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+        reloaded.addPerson(IDA);
+        reopened.saveAddressBook(reloaded);
+
+        assertEquals(3, journalLines(reopened).size());
+        assertReadsBack(reloaded, reopened);
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // as if a compaction was interrupted after writing the snapshot
+        AddressBook compacted = getTypicalAddressBook();
+        compacted.removePerson(ALICE);
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(compacted);
+
+        assertReadsBack(compacted, newStorage(10));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastRecord_replaysUpToIt() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(storage.getAddressBookFilePath()),
+                "{\"op\":\"add\",\"person\":{\"na", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = newStorage(10);
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(addressBook, reloaded);
+
+        // the damaged journal is not appended to
+        reloaded.addPerson(IDA);
+        reopened.saveAddressBook(reloaded);
+        assertEquals(1, journalLines(reopened).size());
+        assertReadsBack(reloaded, newStorage(10));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        List<String> lines = new ArrayList<>(journalLines(storage));
+        lines.set(1, "{\"op\":\"delete\",\"index\":99}");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(storage.getAddressBookFilePath());
+        Files.write(journalFilePath, lines, StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> newStorage(10).readAddressBook());
+        assertEquals(lines, journalLines(storage));
+
+        // an unreadable record that is not the last one was not cut short by a crash
+        lines.set(1, "{\"op\":\"add\",\"person\":{\"na");
+        Files.write(journalFilePath, lines, StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> newStorage(10).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshotWithEdit_replaysEditEachTime() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            addressBook.addPerson(new Person.PersonBuilder().name("Person " + i)
+                    .phone(String.valueOf(90000000 + i)).build());
+        }
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook);
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.setPerson(first, first.toBuilder().address("Somewhere else").build());
+        storage.saveAddressBook(addressBook);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(
+                    new BinaryAddressBookStorage(filePath)).readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void applyTo_setRecordWithIdOfOtherPerson_keepsIdOfTarget() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person alice = getPerson(addressBook, ALICE);
+        Person benson = getPerson(addressBook, BENSON);
+        Person editedAlice = alice.toBuilder().address("Somewhere else").id(benson.getId()).build();
+
+        JsonJournalRecord.set(addressBook.indexOf(alice), editedAlice).applyTo(addressBook);
+
+        Person replaced = addressBook.getPersonList().get(0);
+        assertEquals(alice.getId(), replaced.getId());
+        assertEquals(editedAlice, replaced);
+    }
+
+    @Test
+    public void diff_identityEditsOfSeveralPersons_null() {
+        AddressBook from = getTypicalAddressBook();
+        AddressBook to = new AddressBook(from);
+        Person alice = getPerson(to, ALICE);
+        to.setPerson(alice, alice.toBuilder().name("Someone New").build());
+        assertEquals(1, JournaledAddressBookStorage.diff(from, to).size());
+
+        Person benson = getPerson(to, BENSON);
+        to.setPerson(benson, benson.toBuilder().name("Someone Else").build());
+        assertNull(JournaledAddressBookStorage.diff(from, to));
+    }
+
+    @Test
+    public void diff_reordered_null() {
+        AddressBook from = new AddressBook();
+        from.addPerson(ALICE);
+        from.addPerson(BENSON);
+        AddressBook to = new AddressBook();
+        to.addPerson(BENSON);
+        to.addPerson(ALICE);
+        assertNull(JournaledAddressBookStorage.diff(from, to));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_noJournal() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(10);
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+    }
+
+    private JournaledAddressBookStorage newStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                compactionThreshold);
+    }
+
+    /**
+     * Returns the person in {@code addressBook} that is the same as {@code person}, as edits keep its id.
+     */
+    private static Person getPerson(AddressBook addressBook, Person person) {
+        return addressBook.getPersonList().get(addressBook.indexOf(person));
+    }
+
+    private static List<String> journalLines(JournaledAddressBookStorage storage) throws Exception {
+        return Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(storage.getAddressBookFilePath()),
+                StandardCharsets.UTF_8);
+    }
+
+    private static void assertReadsBack(AddressBook expected, JournaledAddressBookStorage storage)
+            throws Exception {
+        AddressBook read = new AddressBook(new JournaledAddressBookStorage(new JsonAddressBookStorage(
+                storage.getAddressBookFilePath())).readAddressBook().get());
+        assertEquals(expected, read);
+        int[] pairingIndexes = expected.getPairingIndexes();
+        assertEquals(pairingIndexes.length, read.getPairingIndexes().length);
+        for (int k = 0; k < pairingIndexes.length; k += 2) {
+            assertTrue(read.isPaired(read.getPersonList().get(pairingIndexes[k]),
+                    read.getPersonList().get(pairingIndexes[k + 1])));
+        }
+    }
+}
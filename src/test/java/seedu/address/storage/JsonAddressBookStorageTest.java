@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +11,11 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -90,6 +95,77 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(Paths.get("a.json.gz"), 10));
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(Paths.get("a.json.gz"), -2));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        Path plainFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, 9);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals((byte) GZIPInputStream.GZIP_MAGIC, bytes[0]);
+        assertTrue(bytes.length < Files.size(plainFilePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // compression is recognised from the contents of the file rather than its name
+        Files.move(filePath, plainFilePath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(plainFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_previousVersionCopiedToBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path backupFilePath = testFolder.resolve("TempAddressBook_backup.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(backupFilePath));
+        byte[] firstVersion = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertArrayEquals(firstVersion, Files.readAllBytes(backupFilePath));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json.tmp")));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedBeforeMove_readsPreviousVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path tempFilePath = testFolder.resolve("TempAddressBook.json.tmp");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // as if the process died while writing the temporary file of the next save
+        Files.writeString(tempFilePath, "{\"persons\": [");
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(tempFilePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_validFile_noBackupCreated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        jsonAddressBookStorage.readAddressBook();
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook_backup.json")));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(JsonAddressBookStream.read(TYPICAL_PERSONS_FILE), getTypicalAddressBook());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStream.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStream.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_pairingsBeforePersons_success() throws Exception {
+        Path filePath = testFolder.resolve("pairingsFirst.json");
+        FileUtil.writeToFile(filePath, "{ \"pairings\" : [ { \"i\" : 0, \"j\" : 1 }, { \"i\" : 0, \"j\" : 5 } ],"
+                + " \"persons\" : [ "
+                + "{ \"name\" : \"Alice\", \"type\" : \"student\", \"phone\" : \"123\", \"email\" : \"a@bc\","
+                + " \"address\" : \"x\", \"extra\" : { \"ignored\" : [ 1 ] } },"
+                + " { \"name\" : \"Bob\", \"type\" : \"volunteer\", \"phone\" : \"456\", \"email\" : \"b@bc\","
+                + " \"address\" : \"y\" } ] }");
+
+        AddressBook addressBook = JsonAddressBookStream.read(filePath);
+        assertEquals(2, addressBook.getPersonList().size());
+        assertTrue(addressBook.isPaired(addressBook.getPersonList().get(0), addressBook.getPersonList().get(1)));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertThrows(IOException.class, () -> JsonAddressBookStream.read(filePath));
+
+        FileUtil.writeToFile(filePath, "{ \"persons\" : { } }");
+        assertThrows(IOException.class, () -> JsonAddressBookStream.read(filePath));
+
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ");
+        assertThrows(IOException.class, () -> JsonAddressBookStream.read(filePath));
+    }
+
+    @Test
+    public void write_typicalAddressBook_matchesSerializedDto() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.pair(ALICE, ELLE);
+        addressBook.pair(ALICE, BENSON); // same type, not saved
+        Path filePath = testFolder.resolve("written.json");
+
+        JsonAddressBookStream.write(addressBook, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void writeThenRead_withPairings_roundTrips() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.pair(ALICE, ELLE);
+        addressBook.pair(FIONA, BENSON);
+        Path filePath = testFolder.resolve("roundTrip.json");
+
+        JsonAddressBookStream.write(addressBook, filePath);
+        AddressBook readBack = JsonAddressBookStream.read(filePath);
+        assertEquals(addressBook, readBack);
+        assertEquals(Set.of(ELLE), readBack.getPairedPersons(ALICE));
+        assertEquals(Set.of(BENSON), readBack.getPairedPersons(FIONA));
+        assertFalse(readBack.isPaired(ALICE, BENSON));
+    }
+}
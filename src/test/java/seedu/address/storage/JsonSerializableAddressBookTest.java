@@ -2,15 +2,22 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +26,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
+    private static final Path LEGACY_PAIRINGS_FILE = TEST_DATA_FOLDER.resolve("legacyPairingsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -43,4 +52,69 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersons_success() throws Exception {
+        List<JsonAdaptedPerson> persons = generatePersons(2000);
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, null).toModelType();
+        assertEquals(persons.size(), addressBook.getPersonList().size());
+        for (int k = 0; k < persons.size(); k++) {
+            assertEquals(persons.get(k).toModelType(), addressBook.getPersonList().get(k));
+        }
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_firstInvalidPersonReported() {
+        List<JsonAdaptedPerson> persons = generatePersons(2000);
+        persons.set(1500, adaptedPerson("Person 1500", "not a phone"));
+        persons.set(700, adaptedPerson("Person 700!", "12345678"));
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons, null);
+        IllegalValueException e = assertThrows(IllegalValueException.class, addressBook::toModelType);
+        assertEquals(Name.MESSAGE_CONSTRAINTS, e.getMessage());
+
+        // a duplicate before the first invalid person is reported instead
+        persons.set(300, persons.get(10));
+        e = assertThrows(IllegalValueException.class, new JsonSerializableAddressBook(persons, null)::toModelType);
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e.getMessage());
+    }
+
+    @Test
+    public void toModelType_pairingsByPosition_success() throws Exception {
+        AddressBook addressBook = JsonUtil.readJsonFile(LEGACY_PAIRINGS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        assertTrue(addressBook.isPaired(ALICE, ELLE));
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_keepsIdsAndPairings() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Person alice = addressBook.getPersonList().get(addressBook.indexOf(ALICE));
+        Person elle = addressBook.getPersonList().get(addressBook.indexOf(ELLE));
+        addressBook.pair(alice, elle);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        AddressBook loaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        for (int k = 0; k < addressBook.getPersonList().size(); k++) {
+            assertEquals(addressBook.getPersonList().get(k).getId(), loaded.getPersonList().get(k).getId());
+        }
+        assertTrue(loaded.isPaired(alice, elle));
+    }
+
+    private static List<JsonAdaptedPerson> generatePersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int k = 0; k < count; k++) {
+            persons.add(adaptedPerson("Person " + k, String.valueOf(10000000 + k)));
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson adaptedPerson(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, "person@example.com", "Some street", List.of(), "student");
+    }
 }
@@ -0,0 +1,216 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveSegmentSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedAddressBookStorage(
+                testFolder.resolve("addressBook.json"), 0));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(newStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        try (Stream<Path> files = Files.list(segmentFolder(storage))) {
+            Files.delete(files.findFirst().get());
+        }
+        assertThrows(DataLoadingException.class, () -> newStorage().readAddressBook());
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        original.pair(getPerson(original, ALICE), getPerson(original, ELLE));
+        original.pair(getPerson(original, CARL), getPerson(original, FIONA));
+        storage.saveAddressBook(original);
+        assertReadsBack(original, newStorage());
+
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertReadsBack(original, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsSegment() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Map<String, byte[]> before = readSegments(storage);
+
+        Person benson = getPerson(addressBook, BENSON);
+        addressBook.setPerson(benson, benson.toBuilder().address("Somewhere else").build());
+        storage.saveAddressBook(addressBook);
+        Map<String, byte[]> after = readSegments(storage);
+
+        // BENSON is in the first segment, which is replaced by a new file
+        assertEquals(before.size(), after.size());
+        int unchanged = 0;
+        for (Map.Entry<String, byte[]> segment : after.entrySet()) {
+            if (before.containsKey(segment.getKey())) {
+                assertArrayEquals(before.get(segment.getKey()), segment.getValue());
+                unchanged++;
+            }
+        }
+        assertEquals(before.size() - 1, unchanged);
+        assertReadsBack(addressBook, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_keepsUnchangedSegments() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        SegmentedAddressBookStorage reopened = newStorage();
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+        Map<String, byte[]> before = readSegments(reopened);
+
+        reopened.saveAddressBook(reloaded);
+        assertEquals(before.keySet(), readSegments(reopened).keySet());
+
+        reloaded.addPerson(HOON);
+        reopened.saveAddressBook(reloaded);
+        Map<String, byte[]> after = readSegments(reopened);
+        // HOON fills up the last segment, which is the only one rewritten
+        assertEquals(before.size(), after.size());
+        after.keySet().retainAll(before.keySet());
+        assertEquals(before.size() - 1, after.size());
+        assertReadsBack(reloaded, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_pairingChanged_rewritesSegmentOfFirstPerson() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Map<String, byte[]> before = readSegments(storage);
+
+        addressBook.pair(getPerson(addressBook, ALICE), getPerson(addressBook, FIONA));
+        storage.saveAddressBook(addressBook);
+        Map<String, byte[]> after = readSegments(storage);
+
+        assertEquals(before.size(), after.size());
+        after.keySet().retainAll(before.keySet());
+        assertEquals(before.size() - 1, after.size());
+        assertReadsBack(addressBook, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_personsRemoved_deletesObsoleteSegments() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        int segmentCount = readSegments(storage).size();
+
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(segmentCount - 1, readSegments(storage).size());
+        assertReadsBack(addressBook, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_reordered_rewritesAllSegments() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        Map<String, byte[]> before = readSegments(storage);
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        storage.saveAddressBook(reordered);
+
+        Map<String, byte[]> after = readSegments(storage);
+        after.keySet().retainAll(before.keySet());
+        assertTrue(after.isEmpty());
+        assertReadsBack(reordered, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesAllSegments() throws Exception {
+        SegmentedAddressBookStorage storage = newStorage();
+        Path otherFilePath = testFolder.resolve("other.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+        assertReadsBack(addressBook, new SegmentedAddressBookStorage(otherFilePath, 2));
+    }
+
+    private SegmentedAddressBookStorage newStorage() {
+        return new SegmentedAddressBookStorage(testFolder.resolve("addressBook.json"), 2);
+    }
+
+    private static Path segmentFolder(SegmentedAddressBookStorage storage) {
+        return SegmentedAddressBookStorage.getSegmentFolderPath(storage.getAddressBookFilePath());
+    }
+
+    private static Map<String, byte[]> readSegments(SegmentedAddressBookStorage storage) throws Exception {
+        Map<String, byte[]> segments = new HashMap<>();
+        try (Stream<Path> files = Files.list(segmentFolder(storage))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                segments.put(file.getFileName().toString(), Files.readAllBytes(file));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the person in {@code addressBook} that is the same as {@code person}, as edits keep its id.
+     */
+    private static Person getPerson(AddressBook addressBook, Person person) {
+        return addressBook.getPersonList().get(addressBook.indexOf(person));
+    }
+
+    private static void assertReadsBack(AddressBook expected, SegmentedAddressBookStorage storage) throws Exception {
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(expected, read);
+        int[] pairingIndexes = expected.getPairingIndexes();
+        assertEquals(pairingIndexes.length, read.getPairingIndexes().length);
+        for (int k = 0; k < pairingIndexes.length; k += 2) {
+            Person a = expected.getPersonList().get(pairingIndexes[k]);
+            Person b = expected.getPersonList().get(pairingIndexes[k + 1]);
+            assertTrue(read.isPaired(a, b));
+            assertNotEquals(-1, read.indexOf(a));
+            assertEquals(a.getId(), read.getPersonList().get(read.indexOf(a)).getId());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingDatabase_emptyResult() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(storage.getAddressBookFilePath())));
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataLoadingException() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        execute(storage, "UPDATE persons SET phone = 'not a phone'");
+        assertThrows(DataLoadingException.class, () -> newStorage().readAddressBook());
+    }
+
+    @Test
+    public void readSave_allInOrder_success() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        AddressBook original = getTypicalAddressBook();
+        original.pair(getPerson(original, ALICE), getPerson(original, ELLE));
+        original.pair(getPerson(original, CARL), getPerson(original, FIONA));
+        storage.saveAddressBook(original);
+        assertReadsBack(original, newStorage());
+
+        Person benson = getPerson(original, BENSON);
+        original.setPerson(benson, benson.toBuilder().address("Somewhere else").build());
+        original.unpair(getPerson(original, CARL), getPerson(original, FIONA));
+        original.removePerson(ELLE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertReadsBack(original, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_personsRemovedAndAdded_otherRowsKeepPositions() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // only changed rows are written, so the positions are not renumbered
+        assertEquals(1, queryLong(storage, "SELECT MIN(list_position) FROM persons"));
+        assertEquals(addressBook.getPersonList().size(), queryLong(storage, "SELECT MAX(list_position) FROM persons"));
+        assertReadsBack(addressBook, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_updatesRows() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        SqlAddressBookStorage reopened = newStorage();
+        AddressBook reloaded = new AddressBook(reopened.readAddressBook().get());
+
+        reloaded.removePerson(ALICE);
+        reloaded.addPerson(IDA);
+        reloaded.pair(getPerson(reloaded, BENSON), getPerson(reloaded, IDA));
+        reopened.saveAddressBook(reloaded);
+
+        assertEquals(1, queryLong(reopened, "SELECT MIN(list_position) FROM persons"));
+        assertReadsBack(reloaded, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_reordered_rewritesRows() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook reordered = new AddressBook();
+        reordered.addPerson(BENSON);
+        reordered.addPerson(ALICE);
+        storage.saveAddressBook(reordered);
+        assertReadsBack(reordered, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesAllRows() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        Path otherFilePath = testFolder.resolve("other");
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertFalse(Files.exists(SqlAddressBookStorage.getDatabaseFilePath(storage.getAddressBookFilePath())));
+        assertReadsBack(addressBook, new SqlAddressBookStorage(otherFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_pathWithSettings_throwsIoException() {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("addressBook;ACCESS_MODE_DATA=r"));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(getTypicalAddressBook()));
+        assertThrows(IOException.class, () -> newStorage().saveAddressBook(getTypicalAddressBook(),
+                testFolder.resolve("other;ACCESS_MODE_DATA=r")));
+    }
+
+    @Test
+    public void saveAddressBook_afterClose_reopensDatabase() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+        storage.close();
+        assertReadsBack(addressBook, newStorage());
+    }
+
+    @Test
+    public void saveAddressBook_databaseWithQueryIndexes_dropsIndexes() throws Exception {
+        SqlAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+        execute(storage, "CREATE INDEX persons_name_key ON persons (name_key)");
+
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        assertEquals(0, queryLong(storage, "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES"
+                + " WHERE INDEX_NAME = 'PERSONS_NAME_KEY'"));
+    }
+
+    private SqlAddressBookStorage newStorage() {
+        return new SqlAddressBookStorage(testFolder.resolve("addressBook"));
+    }
+
+    private static Connection connect(SqlAddressBookStorage storage) throws Exception {
+        return DriverManager.getConnection("jdbc:h2:file:" + storage.getAddressBookFilePath().toAbsolutePath());
+    }
+
+    private static void execute(SqlAddressBookStorage storage, String sql) throws Exception {
+        try (Connection connection = connect(storage); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long queryLong(SqlAddressBookStorage storage, String sql) throws Exception {
+        try (Connection connection = connect(storage); Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(sql)) {
+            assertTrue(rows.next());
+            return rows.getLong(1);
+        }
+    }
+
+    /**
+     * Returns the person in {@code addressBook} that is the same as {@code person}, as edits keep its id.
+     */
+    private static Person getPerson(AddressBook addressBook, Person person) {
+        return addressBook.getPersonList().get(addressBook.indexOf(person));
+    }
+
+    private static void assertReadsBack(AddressBook expected, SqlAddressBookStorage storage) throws Exception {
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(expected, read);
+        for (int k = 0; k < expected.getPersonList().size(); k++) {
+            assertEquals(expected.getPersonList().get(k).getId(), read.getPersonList().get(k).getId());
+        }
+        int[] pairingIndexes = expected.getPairingIndexes();
+        assertEquals(pairingIndexes.length, read.getPairingIndexes().length);
+        for (int k = 0; k < pairingIndexes.length; k += 2) {
+            assertTrue(read.isPaired(expected.getPersonList().get(pairingIndexes[k]),
+                    expected.getPersonList().get(pairingIndexes[k + 1])));
+        }
+    }
+}
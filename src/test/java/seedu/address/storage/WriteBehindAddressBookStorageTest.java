@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void constructor_nullDelegate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_readsSavedData() throws Exception {
+        storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_notWritten() throws Exception {
+        storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")));
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_laterPairingChanges_notWritten() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        storage = new WriteBehindAddressBookStorage(delegate);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.pair(ALICE, ELLE);
+
+        storage.saveAddressBook(addressBook);
+        addressBook.unpair(ALICE, ELLE);
+        addressBook.pair(BENSON, FIONA);
+        storage.flush();
+
+        ReadOnlyAddressBook saved = delegate.saved.get(0);
+        assertTrue(saved.isPaired(ALICE, ELLE));
+        assertFalse(saved.isPaired(BENSON, FIONA));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescesIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saved.isEmpty()) {
+                    firstWriteStarted.countDown();
+                    await(releaseFirstWrite);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new WriteBehindAddressBookStorage(delegate);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        await(firstWriteStarted);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        releaseFirstWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, delegate.saved.size());
+        assertEquals(addressBook, delegate.saved.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportsFailure() {
+        IOException failure = new IOException("disk full");
+        List<Exception> reported = new ArrayList<>();
+        storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("a.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        });
+        storage.setFailureHandler(reported::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(List.of(failure), reported);
+    }
+
+    @Test
+    public void close_pendingSave_writesBeforeReturning() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        storage = new WriteBehindAddressBookStorage(delegate);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+        assertEquals(1, delegate.saved.size());
+        storage = null;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that also keeps a copy of every address book it saves.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        protected final List<AddressBook> saved = new ArrayList<>();
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(new AddressBook(addressBook));
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}